@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter;
+
+import com.intellij.util.io.DataExternalizer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures writing and reading a single value of a file-based index.
+ *
+ * @param <T> type of index values
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public abstract class ExternalizerBenchmark<T> {
+
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+  private final DataOutputStream out = new DataOutputStream(buffer);
+
+  private T value;
+
+  private byte[] bytes;
+
+  /**
+   * @return the externalizer being measured
+   */
+  @NotNull
+  protected abstract DataExternalizer<T> getExternalizer();
+
+  /**
+   * @return a value of typical size
+   */
+  @NotNull
+  protected abstract T createValue();
+
+  @Setup
+  public void setUp() throws IOException {
+    value = createValue();
+    getExternalizer().save(out, value);
+    bytes = buffer.toByteArray();
+  }
+
+  @Benchmark
+  public int save() throws IOException {
+    buffer.reset();
+    getExternalizer().save(out, value);
+    return buffer.size();
+  }
+
+  @Benchmark
+  public T read() throws IOException {
+    return getExternalizer().read(new DataInputStream(new ByteArrayInputStream(bytes)));
+  }
+
+}
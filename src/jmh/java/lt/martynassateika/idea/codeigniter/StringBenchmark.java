@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter;
+
+import com.intellij.mock.MockVirtualFile;
+import com.intellij.openapi.util.text.StringUtil;
+import java.util.concurrent.TimeUnit;
+import lt.martynassateika.idea.codeigniter.compat.VfsUtilCompat;
+import lt.martynassateika.idea.codeigniter.helper.CiHelperUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the string handling run for every view, helper and language key argument.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StringBenchmark {
+
+  @Param({"url", "url_helper", "url_helper.php", "admin/form_helper.php"})
+  public String path;
+
+  private String quoted;
+
+  private MockVirtualFile directory;
+
+  private MockVirtualFile file;
+
+  @Setup
+  public void setUp() {
+    quoted = "'" + path + "'";
+    file = MockVirtualFile.file(PhpExtensionUtil.addIfMissing(StringUtil.getShortName(path, '/')));
+    MockVirtualFile section = MockVirtualFile.dir("section", file);
+    directory = MockVirtualFile.dir("views", MockVirtualFile.dir("admin", section));
+  }
+
+  @Benchmark
+  public String formatHelperPath() {
+    return CiHelperUtil.formatHelperPath(path);
+  }
+
+  /**
+   * Baseline: how {@link CiHelperUtil#formatHelperPath} used to be implemented.
+   */
+  @Benchmark
+  public String formatHelperPathRegex() {
+    return path.replaceAll("(_helper)?(\\.php)?$", "");
+  }
+
+  @Benchmark
+  public String addIfMissing() {
+    return PhpExtensionUtil.addIfMissing(path);
+  }
+
+  @Benchmark
+  public String removeIfPresent() {
+    return PhpExtensionUtil.removeIfPresent(path);
+  }
+
+  @Benchmark
+  public String unquoteString() {
+    return StringUtil.unquoteString(quoted);
+  }
+
+  @Benchmark
+  public String findRelativePath() {
+    return VfsUtilCompat.findRelativePath(directory, file, '/');
+  }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.config;
+
+import com.intellij.util.io.DataExternalizer;
+import lt.martynassateika.idea.codeigniter.ExternalizerBenchmark;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class ConfigItemExternalizerBenchmark extends ExternalizerBenchmark<ConfigItem> {
+
+  @NotNull
+  @Override
+  protected DataExternalizer<ConfigItem> getExternalizer() {
+    return ConfigFileIndex.ConfigItemExternalizer.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  protected ConfigItem createValue() {
+    return new ConfigItem(512, "'http://example.com/'", "config.php");
+  }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.model;
+
+import com.intellij.util.io.DataExternalizer;
+import java.util.Arrays;
+import lt.martynassateika.idea.codeigniter.ExternalizerBenchmark;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class ModelInfoExternalizerBenchmark extends ExternalizerBenchmark<ModelInfo> {
+
+  @NotNull
+  @Override
+  protected DataExternalizer<ModelInfo> getExternalizer() {
+    return ModelFileIndex.ModelInfoExternalizer.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  protected ModelInfo createValue() {
+    return new ModelInfo("\\User_model",
+        Arrays.asList("get_user", "get_users", "insert_user", "update_user", "delete_user"));
+  }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.usage;
+
+import com.intellij.util.io.DataExternalizer;
+import java.util.ArrayList;
+import java.util.List;
+import lt.martynassateika.idea.codeigniter.ExternalizerBenchmark;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class OffsetsExternalizerBenchmark extends ExternalizerBenchmark<List<Integer>> {
+
+  @NotNull
+  @Override
+  protected DataExternalizer<List<Integer>> getExternalizer() {
+    return UsageIndex.OffsetsExternalizer.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  protected List<Integer> createValue() {
+    List<Integer> offsets = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      offsets.add(i * 120);
+    }
+    return offsets;
+  }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Utility methods for locating files within the CI directory structure.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class CiFileUtil {
+
+  /**
+   * @param file a file or directory
+   * @param name directory name, e.g. 'views'
+   * @return the closest ancestor directory called {@code name}, or {@code null} if there is none
+   */
+  @Nullable
+  public static VirtualFile findClosestAncestor(@NotNull VirtualFile file, @NotNull String name) {
+    VirtualFile parent = file.getParent();
+    while (parent != null && !name.equals(parent.getName())) {
+      parent = parent.getParent();
+    }
+    return parent;
+  }
+
+  /**
+   * Reverses a relative path lookup, e.g. returns 'views' for 'views/admin/list.php' and
+   * 'admin/list'.
+   *
+   * @param file a file
+   * @param relativePath path of {@code file} relative to the wanted directory
+   * @return the directory from which {@code relativePath} leads to {@code file}
+   */
+  @Nullable
+  public static VirtualFile getBaseDirectory(@NotNull VirtualFile file,
+      @NotNull String relativePath) {
+    VirtualFile directory = file.getParent();
+    int depth = StringUtil.countChars(relativePath, '/');
+    for (int i = 0; i < depth && directory != null; i++) {
+      directory = directory.getParent();
+    }
+    return directory;
+  }
+
+}
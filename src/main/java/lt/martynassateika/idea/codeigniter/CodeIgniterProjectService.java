@@ -18,16 +18,97 @@ package lt.martynassateika.idea.codeigniter;
 
 import com.intellij.openapi.components.Service;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.PsiFileSystemItem;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
 
 /**
+ * Keeps track of CodeIgniter application directories in a project.
+ *
+ * Directories are discovered once and cached until a directory is added, moved or deleted. Helper,
+ * model and config lookups do not need them, as their indexes key files by the path relative to
+ * the closest such directory.
+ *
  * @author martynas.sateika
  * @since 0.1.0
  */
 @Service
 public final class CodeIgniterProjectService {
 
+  public static final String CONFIG = "config";
+
+  public static final String CONTROLLERS = "controllers";
+
+  public static final String HELPERS = "helpers";
+
+  public static final String LANGUAGE = "language";
+
+  public static final String MODELS = "models";
+
+  public static final String VIEWS = "views";
+
+  private static final String[] DIRECTORY_NAMES = {CONFIG, CONTROLLERS, HELPERS, LANGUAGE, MODELS,
+      VIEWS};
+
+  @NotNull
+  private final Project project;
+
+  public CodeIgniterProjectService(@NotNull Project project) {
+    this.project = project;
+  }
+
+  public static CodeIgniterProjectService getInstance(@NotNull Project project) {
+    return project.getService(CodeIgniterProjectService.class);
+  }
+
   public static boolean isEnabled(Project project) {
-    return project.getComponent(CodeIgniterProjectSettings.class).isEnabled();
+    return CodeIgniterProjectSettings.getInstance(project).isEnabled();
+  }
+
+  /**
+   * @param name one of {@link #CONFIG}, {@link #CONTROLLERS}, {@link #HELPERS}, {@link #LANGUAGE},
+   * {@link #MODELS}, {@link #VIEWS}
+   * @return all directories in the project with the supplied name
+   */
+  @NotNull
+  public List<VirtualFile> getDirectories(@NotNull String name) {
+    return getDirectoriesByName().getOrDefault(name, Collections.emptyList());
+  }
+
+  @NotNull
+  private Map<String, List<VirtualFile>> getDirectoriesByName() {
+    return CachedValuesManager.getManager(project).getCachedValue(project, () -> Result.create(
+        findDirectories(),
+        VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS,
+        ProjectRootModificationTracker.getInstance(project)
+    ));
+  }
+
+  @NotNull
+  private Map<String, List<VirtualFile>> findDirectories() {
+    GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+    Map<String, List<VirtualFile>> directories = new HashMap<>();
+    for (String name : DIRECTORY_NAMES) {
+      List<VirtualFile> list = new ArrayList<>();
+      for (PsiFileSystemItem item : FilenameIndex.getFilesByName(project, name, scope, true)) {
+        if (item.isDirectory()) {
+          list.add(item.getVirtualFile());
+        }
+      }
+      directories.put(name, list);
+    }
+    return directories;
   }
 
 }
@@ -33,10 +33,21 @@ import org.jetbrains.annotations.Nullable;
 @State(name = "CodeIgniterProjectSettings")
 @Service
 public final class CodeIgniterProjectSettings implements PersistentStateComponent<CodeIgniterProjectSettings> {
+  /**
+   * Idiom used when CI falls back to its default language.
+   */
+  public static final String DEFAULT_IDIOM = "english";
+
   private boolean isEnabled;
 
+  private String preferredIdiom;
+
+  private boolean isDiagnosticsEnabled;
+
   public CodeIgniterProjectSettings() {
     this.isEnabled = false;
+    this.preferredIdiom = DEFAULT_IDIOM;
+    this.isDiagnosticsEnabled = false;
   }
 
   @Nullable
@@ -58,6 +69,31 @@ public final class CodeIgniterProjectSettings implements PersistentStateComponen
     isEnabled = enabled;
   }
 
+  /**
+   * @return idiom whose translations are shown in folded 'lang' calls and completion, e.g.
+   * 'english'
+   */
+  @NotNull
+  public String getPreferredIdiom() {
+    return preferredIdiom;
+  }
+
+  public void setPreferredIdiom(@NotNull String preferredIdiom) {
+    this.preferredIdiom = preferredIdiom;
+  }
+
+  /**
+   * @return whether timings of plugin operations are collected, see
+   * {@link lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics}
+   */
+  public boolean isDiagnosticsEnabled() {
+    return isDiagnosticsEnabled;
+  }
+
+  public void setDiagnosticsEnabled(boolean diagnosticsEnabled) {
+    isDiagnosticsEnabled = diagnosticsEnabled;
+  }
+
   public static CodeIgniterProjectSettings getInstance(@NotNull Project project) {
     return project.getService(CodeIgniterProjectSettings.class);
   }
@@ -1,47 +0,0 @@
-/*
- * Copyright 2000-2016 JetBrains s.r.o.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-
-package lt.martynassateika.idea.codeigniter.compat;
-
-import com.intellij.util.io.DataExternalizer;
-import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
-
-import java.io.DataInput;
-import java.io.DataOutput;
-
-/**
- * Based on com.intellij.util.io.VoidDataExternalizer.
- *
- * This class exists here to enable 2016.1 support.
- *
- * @author JetBrains
- * @since 0.4.1 (intellij-community: 2017.1)
- */
-public class VoidDataExternalizer implements DataExternalizer<Void> {
-
-  public static final VoidDataExternalizer INSTANCE = new VoidDataExternalizer();
-
-  @Override
-  public void save(@NotNull DataOutput out, Void value) {
-  }
-
-  @Override
-  @Nullable
-  public Void read(@NotNull DataInput in) {
-    return null;
-  }
-}
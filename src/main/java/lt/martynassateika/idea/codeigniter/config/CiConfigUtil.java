@@ -17,19 +17,20 @@
 package lt.martynassateika.idea.codeigniter.config;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
 import com.intellij.util.indexing.FileBasedIndex;
 import com.jetbrains.php.lang.PhpFileType;
-import com.jetbrains.php.lang.psi.PhpFile;
-import com.jetbrains.php.lang.psi.elements.AssignmentExpression;
+import com.jetbrains.php.lang.psi.elements.ArrayIndex;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
-import com.jetbrains.php.lang.psi.visitors.PhpRecursiveElementVisitor;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
 
 /**
@@ -38,16 +39,25 @@ import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
  * @author martynas.sateika
  * @since 0.5.0
  */
-class CiConfigUtil {
+public class CiConfigUtil {
+
+  /**
+   * Names of the functions and methods taking a config item name as their first argument.
+   */
+  static final String[] CONFIG_ITEM_FUNCTIONS = {"config_item", "item", "set_item", "slash_item"};
+
+  private static final Key<CachedValue<Map<VirtualFile, ConfigItem>>> CONFIG_ITEMS_KEY = Key
+      .create("codeigniter.config.items");
 
   /**
    * Returns {@code true} if the supplied file is a CI config file.
    *
-   * @param file a PHP file
+   * @param file a file
    * @return {@code true} if the file is a CI config file
    */
-  static boolean isConfigFile(PhpFile file) {
-    return file.getContainingDirectory().getName().equals("config");
+  public static boolean isConfigFile(VirtualFile file) {
+    VirtualFile parent = file.getParent();
+    return parent != null && parent.getName().equals("config");
   }
 
   /**
@@ -56,7 +66,7 @@ class CiConfigUtil {
    * @param element an element
    * @return {@code true} if the supplied element represents a config item name
    */
-  static boolean isConfigItemNameElement(PsiElement element) {
+  public static boolean isConfigItemNameElement(PsiElement element) {
     return isArgumentOfConfigItemMethod(element)
         || isArgumentOfConfigItemFunction(element)
         || isArgumentOfConfigSetItem(element)
@@ -82,41 +92,46 @@ class CiConfigUtil {
   /**
    * @param project current project
    * @param literalExpression containing the config key
-   * @return assignment expressions matching the config key across all config files
+   * @return config items matching the config key, mapped by the config file they are defined in
    */
-  static List<AssignmentExpression> findValuesFor(
+  static Map<VirtualFile, ConfigItem> findValuesFor(
       Project project,
       StringLiteralExpression literalExpression) {
-    return findValuesFor(project, literalExpression.getContents());
+    return MyPsiUtil.getCachedIndexValue(literalExpression, CONFIG_ITEMS_KEY, ConfigFileIndex.KEY,
+        literal -> findValuesFor(project, literal.getContents()));
+  }
+
+  /**
+   * @param literalExpression containing the config key
+   * @return array indices defining the config key in config files
+   */
+  static List<ArrayIndex> findConfigItemElements(StringLiteralExpression literalExpression) {
+    PsiManager psiManager = literalExpression.getManager();
+    List<ArrayIndex> elements = new ArrayList<>();
+    findValuesFor(literalExpression.getProject(), literalExpression).forEach((file, item) -> {
+      ArrayIndex index = MyPsiUtil.findArrayIndex(psiManager, file, item.getOffset());
+      if (index != null) {
+        elements.add(index);
+      }
+    });
+    return elements;
   }
 
   /**
    * @param project current project
    * @param text config key
-   * @return assignment expressions matching the config key across all config files
+   * @return config items matching the config key, mapped by the config file they are defined in
    */
-  private static List<AssignmentExpression> findValuesFor(Project project, String text) {
-    List<AssignmentExpression> expressions = new ArrayList<>();
-    FileBasedIndex.getInstance().getFilesWithKey(ConfigFileIndex.KEY,
-        Collections.singleton(text), file -> {
-          PsiManager psiManager = PsiManager.getInstance(project);
-          PsiFile psiFile = psiManager.findFile(file);
-          if (psiFile instanceof PhpFile) {
-            //noinspection deprecation
-            psiFile.accept(new PhpRecursiveElementVisitor() {
-              @Override
-              public void visitPhpAssignmentExpression(AssignmentExpression assignmentExpression) {
-                if (MyPsiUtil.isArrayAccessWithStringIndex(assignmentExpression, text)) {
-                  expressions.add(assignmentExpression);
-                }
-              }
-            });
-          }
+  private static Map<VirtualFile, ConfigItem> findValuesFor(Project project, String text) {
+    Map<VirtualFile, ConfigItem> items = new LinkedHashMap<>();
+    FileBasedIndex.getInstance().processValues(ConfigFileIndex.KEY, text, null,
+        (file, item) -> {
+          items.put(file, item);
           return true;
         }, GlobalSearchScope
             .getScopeRestrictedByFileTypes(GlobalSearchScope.allScope(project),
                 PhpFileType.INSTANCE));
-    return expressions;
+    return items;
   }
 
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.config;
+
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElementVisitor;
+import com.jetbrains.php.lang.psi.PhpFile;
+import com.jetbrains.php.lang.psi.visitors.PhpElementVisitor;
+import java.util.Set;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import lt.martynassateika.idea.codeigniter.inspection.CodeIgniterInspection;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
+import lt.martynassateika.idea.codeigniter.usage.CiUsageUtil;
+import lt.martynassateika.idea.codeigniter.usage.UsageKind;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reports items in config files which are not looked up anywhere, e.g. by 'config_item'.
+ *
+ * Used names come straight from the usage index, no references are resolved. Disabled by default,
+ * as CI itself reads many config items straight from the config array.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class CodeIgniterUnusedConfigItemInspection extends CodeIgniterInspection {
+
+  @Nls
+  @NotNull
+  @Override
+  public String getDisplayName() {
+    return "Unused config item";
+  }
+
+  @Override
+  public boolean isEnabledByDefault() {
+    return false;
+  }
+
+  @NotNull
+  @Override
+  public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder problemsHolder, boolean b) {
+    return new PhpElementVisitor() {
+      @Override
+      public void visitPhpFile(PhpFile phpFile) {
+        Project project = phpFile.getProject();
+        VirtualFile file = phpFile.getVirtualFile();
+        if (file != null && CiConfigUtil.isConfigFile(file)
+            && CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
+          long start = CiMetrics.start(project);
+          try {
+            Set<String> usedNames = CiUsageUtil.getUsedNames(UsageKind.CONFIG, project);
+            MyPsiUtil.processArrayAssignments(phpFile, "config", (key, index, value) -> {
+              if (!usedNames.contains(key)) {
+                problemsHolder.registerProblem(index,
+                    String.format("Config item '%s' is never used", key),
+                    ProblemHighlightType.LIKE_UNUSED_SYMBOL);
+              }
+            });
+          } finally {
+            CiMetrics.stop(project, CiMetric.UNUSED_CONFIG_ITEM_INSPECTION, start);
+          }
+        }
+      }
+    };
+  }
+
+}
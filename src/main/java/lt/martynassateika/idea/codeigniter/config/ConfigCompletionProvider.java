@@ -21,11 +21,11 @@ import com.intellij.codeInsight.completion.CompletionProvider;
 import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.codeInsight.lookup.LookupElementRenderer;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.IconLoader;
+import com.intellij.openapi.util.Ref;
 import com.intellij.openapi.util.text.StringUtil;
-import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.patterns.PlatformPatterns;
 import com.intellij.patterns.PsiElementPattern;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.impl.source.tree.LeafPsiElement;
@@ -33,13 +33,13 @@ import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.ProcessingContext;
 import com.intellij.util.indexing.FileBasedIndex;
 import com.jetbrains.php.lang.PhpFileType;
-import com.jetbrains.php.lang.PhpLanguage;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
-import java.util.Collection;
-import java.util.Collections;
 import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import lt.martynassateika.idea.codeigniter.contributor.MyCompletionUtil;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiPatterns;
 import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Provides possible config keys for 'config' calls.
@@ -59,23 +59,9 @@ public class ConfigCompletionProvider extends CompletionProvider<CompletionParam
       Project project = originalPosition.getProject();
       if (CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
         if (isConfigItemNameElement(originalPosition)) {
-          FileBasedIndex index = FileBasedIndex.getInstance();
-          Collection<String> allKeys = index.getAllKeys(ConfigFileIndex.KEY, project);
-          for (String key : allKeys) {
-            index.getFilesWithKey(ConfigFileIndex.KEY, Collections.singleton(key),
-                file -> {
-                  ConfigLookupElement lookupElement = new ConfigLookupElement(
-                      StringUtil.unquoteString(key),
-                      file
-                  );
-                  completionResultSet.addElement(lookupElement);
-                  return false;
-                }, GlobalSearchScope.getScopeRestrictedByFileTypes(
-                    GlobalSearchScope.allScope(project),
-                    PhpFileType.INSTANCE
-                )
-            );
-          }
+          MyCompletionUtil.processMatchingKeys(ConfigFileIndex.KEY,
+              completionResultSet.getPrefixMatcher(), project,
+              key -> completionResultSet.addElement(new ConfigLookupElement(key, project)));
         }
       }
     }
@@ -96,10 +82,8 @@ public class ConfigCompletionProvider extends CompletionProvider<CompletionParam
 
   @NotNull
   public static PsiElementPattern.Capture<LeafPsiElement> getPlace() {
-    return PlatformPatterns
-        .psiElement(LeafPsiElement.class)
-        .withParent(StringLiteralExpression.class)
-        .withLanguage(PhpLanguage.INSTANCE);
+    // config_item('foo'), $this->config->item('foo'), set_item('foo'), slash_item('foo')
+    return MyPsiPatterns.completionInStringArgumentOf(CiConfigUtil.CONFIG_ITEM_FUNCTIONS);
   }
 
   private static class ConfigLookupElement extends LookupElement {
@@ -108,11 +92,11 @@ public class ConfigCompletionProvider extends CompletionProvider<CompletionParam
     private final String configItemName;
 
     @NotNull
-    private final VirtualFile file;
+    private final Project project;
 
-    ConfigLookupElement(@NotNull String configItemName, @NotNull VirtualFile file) {
+    ConfigLookupElement(@NotNull String configItemName, @NotNull Project project) {
       this.configItemName = configItemName;
-      this.file = file;
+      this.project = project;
     }
 
     @NotNull
@@ -125,8 +109,40 @@ public class ConfigCompletionProvider extends CompletionProvider<CompletionParam
     public void renderElement(LookupElementPresentation presentation) {
       super.renderElement(presentation);
       presentation.setIcon(IconLoader.findIcon("/icons/php-icon.png"));
-      presentation.setTypeText(file.getNameWithoutExtension());
-      presentation.setTypeGrayed(true);
+    }
+
+    /**
+     * Shows the value and the file name of the first definition of the item, looked up in the
+     * background once the element is shown.
+     */
+    @Nullable
+    @Override
+    public LookupElementRenderer<ConfigLookupElement> getExpensiveRenderer() {
+      return (element, presentation) -> {
+        element.renderElement(presentation);
+        ConfigItem item = findFirstItem();
+        if (item != null) {
+          presentation.setTailText(" = " + StringUtil.collapseWhiteSpace(item.getValue()), true);
+          presentation.setTypeText(item.getFileName());
+          presentation.setTypeGrayed(true);
+        }
+      };
+    }
+
+    @Nullable
+    private ConfigItem findFirstItem() {
+      GlobalSearchScope scope = GlobalSearchScope.getScopeRestrictedByFileTypes(
+          GlobalSearchScope.allScope(project),
+          PhpFileType.INSTANCE
+      );
+      Ref<ConfigItem> firstItem = Ref.create();
+      // The first definition found is enough to describe the item
+      FileBasedIndex.getInstance().processValues(ConfigFileIndex.KEY, configItemName, null,
+          (file, item) -> {
+            firstItem.set(item);
+            return false;
+          }, scope);
+      return firstItem.get();
     }
 
   }
@@ -16,10 +16,10 @@
 
 package lt.martynassateika.idea.codeigniter.config;
 
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiManager;
 import com.intellij.util.indexing.DataIndexer;
 import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
 import com.intellij.util.indexing.FileBasedIndex.InputFilter;
@@ -27,20 +27,21 @@ import com.intellij.util.indexing.FileBasedIndexExtension;
 import com.intellij.util.indexing.FileContent;
 import com.intellij.util.indexing.ID;
 import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
 import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
 import com.intellij.util.io.KeyDescriptor;
 import com.jetbrains.php.lang.PhpFileType;
 import com.jetbrains.php.lang.psi.PhpFile;
-import com.jetbrains.php.lang.psi.elements.ArrayAccessExpression;
-import com.jetbrains.php.lang.psi.elements.ArrayIndex;
-import com.jetbrains.php.lang.psi.elements.PhpPsiElement;
-import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
-import com.jetbrains.php.lang.psi.elements.Variable;
-import com.jetbrains.php.lang.psi.visitors.PhpRecursiveElementVisitor;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import lt.martynassateika.idea.codeigniter.compat.VoidDataExternalizer;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 
@@ -50,22 +51,22 @@ import org.jetbrains.annotations.NotNull;
  * @author martynas.sateika
  * @since 0.5.0
  */
-public class ConfigFileIndex extends FileBasedIndexExtension<String, Void> {
+public class ConfigFileIndex extends FileBasedIndexExtension<String, ConfigItem> {
 
   @NonNls
-  static final ID<String, Void> KEY = ID.create("codeigniter.config.file.index");
+  static final ID<String, ConfigItem> KEY = ID.create("codeigniter.config.file.index");
 
   private final MyDataIndexer myDataIndexer = new MyDataIndexer();
 
   @NotNull
   @Override
-  public ID<String, Void> getName() {
+  public ID<String, ConfigItem> getName() {
     return KEY;
   }
 
   @NotNull
   @Override
-  public DataIndexer<String, Void, FileContent> getIndexer() {
+  public DataIndexer<String, ConfigItem, FileContent> getIndexer() {
     return myDataIndexer;
   }
 
@@ -77,19 +78,24 @@ public class ConfigFileIndex extends FileBasedIndexExtension<String, Void> {
 
   @NotNull
   @Override
-  public DataExternalizer<Void> getValueExternalizer() {
-    return VoidDataExternalizer.INSTANCE;
+  public DataExternalizer<ConfigItem> getValueExternalizer() {
+    return ConfigItemExternalizer.INSTANCE;
   }
 
   @Override
   public int getVersion() {
-    return 1;
+    return 5;
   }
 
   @NotNull
   @Override
   public InputFilter getInputFilter() {
-    return new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE);
+    return new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE) {
+      @Override
+      public boolean acceptInput(@NotNull VirtualFile file) {
+        return CiConfigUtil.isConfigFile(file);
+      }
+    };
   }
 
   @Override
@@ -97,51 +103,65 @@ public class ConfigFileIndex extends FileBasedIndexExtension<String, Void> {
     return true;
   }
 
-  private class MyDataIndexer implements DataIndexer<String, Void, FileContent> {
+  private static class MyDataIndexer implements DataIndexer<String, ConfigItem, FileContent> {
 
-    @SuppressWarnings("deprecation")
     @NotNull
     @Override
-    public Map<String, Void> map(@NotNull FileContent fileContent) {
-      VirtualFile file = fileContent.getFile();
-      PsiManager psiManager = PsiManager.getInstance(fileContent.getProject());
-      PsiFile psiFile = psiManager.findFile(file);
-      if (psiFile instanceof PhpFile) {
-        if (CiConfigUtil.isConfigFile((PhpFile) psiFile)) {
-          Map<String, Void> map = new HashMap<>();
-          psiFile.accept(new PhpRecursiveElementVisitor() {
-            @Override
-            public void visitPhpArrayAccessExpression(ArrayAccessExpression expression) {
-              if (isConfigArrayAccess(expression)) {
-                ArrayIndex index = expression.getIndex();
-                if (index != null) {
-                  PhpPsiElement value = index.getValue();
-                  if (value instanceof StringLiteralExpression) {
-                    String text = ((StringLiteralExpression) value).getContents();
-                    map.put(text, null);
-                  }
-                }
-              }
-            }
-          });
-          return map;
-        }
+    public Map<String, ConfigItem> map(@NotNull FileContent fileContent) {
+      Project project = fileContent.getProject();
+      long start = CiMetrics.start(project);
+      try {
+        return mapFile(fileContent);
+      } finally {
+        CiMetrics.stop(project, CiMetric.CONFIG_INDEX, start);
       }
-      return Collections.emptyMap();
+    }
+
+    @NotNull
+    private Map<String, ConfigItem> mapFile(@NotNull FileContent fileContent) {
+      // Only config files get here, see getInputFilter()
+      if (!StringUtil.contains(fileContent.getContentAsText(), "$config")) {
+        return Collections.emptyMap();
+      }
+      PsiFile psiFile = fileContent.getPsiFile();
+      if (!(psiFile instanceof PhpFile)) {
+        return Collections.emptyMap();
+      }
+      String fileName = fileContent.getFile().getNameWithoutExtension();
+      Map<String, ConfigItem> map = new HashMap<>();
+      MyPsiUtil.processArrayAssignments(psiFile, "config", (key, index, value) -> map.put(key,
+          new ConfigItem(
+              index.getTextRange().getStartOffset(),
+              StringUtil.first(value.getText(), ConfigItem.MAX_VALUE_LENGTH, true),
+              fileName
+          )
+      ));
+      return map;
     }
   }
 
   /**
-   * @param expression array access expression
-   * @return {@code true} if the array is called 'config'
+   * Stores the index offset, the value text and the file name of a {@link ConfigItem}.
    */
-  private boolean isConfigArrayAccess(ArrayAccessExpression expression) {
-    PsiElement firstChild = expression.getFirstChild();
-    if (firstChild instanceof Variable) {
-      Variable variable = (Variable) firstChild;
-      return variable.getName().equals("config");
+  static class ConfigItemExternalizer implements DataExternalizer<ConfigItem> {
+
+    static final ConfigItemExternalizer INSTANCE = new ConfigItemExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out, ConfigItem value) throws IOException {
+      DataInputOutputUtil.writeINT(out, value.getOffset());
+      IOUtil.writeUTF(out, value.getValue());
+      IOUtil.writeUTF(out, value.getFileName());
+    }
+
+    @Override
+    public ConfigItem read(@NotNull DataInput in) throws IOException {
+      int offset = DataInputOutputUtil.readINT(in);
+      String value = IOUtil.readUTF(in);
+      String fileName = IOUtil.readUTF(in);
+      return new ConfigItem(offset, value, fileName);
     }
-    return false;
+
   }
 
 }
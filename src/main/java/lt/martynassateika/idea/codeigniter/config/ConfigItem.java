@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.config;
+
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A single config item, as stored in {@link ConfigFileIndex}.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public final class ConfigItem {
+
+  /**
+   * Maximum length of the stored value text.
+   */
+  static final int MAX_VALUE_LENGTH = 60;
+
+  private final int offset;
+
+  @NotNull
+  private final String value;
+
+  @NotNull
+  private final String fileName;
+
+  ConfigItem(int offset, @NotNull String value, @NotNull String fileName) {
+    this.offset = offset;
+    this.value = value;
+    this.fileName = fileName;
+  }
+
+  /**
+   * @return offset of the array index (e.g. {@code 'foo'} in {@code $config['foo']}) in its file
+   */
+  public int getOffset() {
+    return offset;
+  }
+
+  /**
+   * Shown next to the item name in completion.
+   *
+   * @return text of the assigned value, shortened to at most {@link #MAX_VALUE_LENGTH} characters
+   */
+  @NotNull
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * @return name of the config file without the extension, e.g. 'config'
+   */
+  @NotNull
+  public String getFileName() {
+    return fileName;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ConfigItem that = (ConfigItem) o;
+    return offset == that.offset && value.equals(that.value) && fileName.equals(that.fileName);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(offset, value, fileName);
+  }
+
+}
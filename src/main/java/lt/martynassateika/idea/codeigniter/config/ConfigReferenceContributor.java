@@ -17,22 +17,18 @@
 package lt.martynassateika.idea.codeigniter.config;
 
 import com.intellij.openapi.project.Project;
-import com.intellij.patterns.PlatformPatterns;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceContributor;
 import com.intellij.psi.PsiReferenceProvider;
 import com.intellij.psi.PsiReferenceRegistrar;
 import com.intellij.util.ProcessingContext;
-import com.jetbrains.php.lang.psi.elements.ArrayAccessExpression;
-import com.jetbrains.php.lang.psi.elements.ArrayIndex;
-import com.jetbrains.php.lang.psi.elements.AssignmentExpression;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
-import java.util.ArrayList;
-import java.util.List;
 
 import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
-import lt.martynassateika.idea.codeigniter.psi.MyPsiReference;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.psi.MyPolyVariantReference;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiPatterns;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -45,7 +41,8 @@ public class ConfigReferenceContributor extends PsiReferenceContributor {
 
   @Override
   public void registerReferenceProviders(@NotNull PsiReferenceRegistrar psiReferenceRegistrar) {
-    psiReferenceRegistrar.registerReferenceProvider(PlatformPatterns.psiElement(),
+    psiReferenceRegistrar.registerReferenceProvider(
+        MyPsiPatterns.stringArgumentOf(CiConfigUtil.CONFIG_ITEM_FUNCTIONS),
         new PsiReferenceProvider() {
           @NotNull
           @Override
@@ -57,9 +54,10 @@ public class ConfigReferenceContributor extends PsiReferenceContributor {
               if (psiElement instanceof StringLiteralExpression) {
                 StringLiteralExpression literalExpression = (StringLiteralExpression) psiElement;
                 if (CiConfigUtil.isConfigItemNameElement(psiElement)) {
-                  List<AssignmentExpression> configValues = CiConfigUtil
-                      .findValuesFor(project, literalExpression);
-                  return getValueReferences(literalExpression, configValues);
+                  return new PsiReference[]{
+                      new MyPolyVariantReference(literalExpression, CiMetric.CONFIG_RESOLVE,
+                          CiConfigUtil::findConfigItemElements)
+                  };
                 }
               }
             }
@@ -68,19 +66,4 @@ public class ConfigReferenceContributor extends PsiReferenceContributor {
         });
   }
 
-  @NotNull
-  private PsiReference[] getValueReferences(StringLiteralExpression stringLiteralExpression,
-      List<AssignmentExpression> configValues) {
-    List<PsiReference> references = new ArrayList<>(configValues.size());
-    for (AssignmentExpression translation : configValues) {
-      ArrayAccessExpression arrayAccessExpression = (ArrayAccessExpression) translation
-          .getVariable();
-      if (arrayAccessExpression != null) {
-        ArrayIndex index = arrayAccessExpression.getIndex();
-        references.add(new MyPsiReference(index, stringLiteralExpression));
-      }
-    }
-    return references.toArray(PsiReference.EMPTY_ARRAY);
-  }
-
 }
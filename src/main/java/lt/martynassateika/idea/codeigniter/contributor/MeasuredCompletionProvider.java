@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.contributor;
+
+import com.intellij.codeInsight.completion.CompletionParameters;
+import com.intellij.codeInsight.completion.CompletionProvider;
+import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.ProcessingContext;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Records the time spent in another completion provider.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+class MeasuredCompletionProvider extends CompletionProvider<CompletionParameters> {
+
+  @NotNull
+  private final CiMetric metric;
+
+  @NotNull
+  private final CompletionProvider<CompletionParameters> delegate;
+
+  MeasuredCompletionProvider(@NotNull CiMetric metric,
+      @NotNull CompletionProvider<CompletionParameters> delegate) {
+    this.metric = metric;
+    this.delegate = delegate;
+  }
+
+  @Override
+  protected void addCompletions(@NotNull CompletionParameters completionParameters,
+      @NotNull ProcessingContext processingContext,
+      @NotNull CompletionResultSet completionResultSet) {
+    Project project = completionParameters.getPosition().getProject();
+    long start = CiMetrics.start(project);
+    try {
+      delegate.addCompletionVariants(completionParameters, processingContext,
+          completionResultSet);
+    } finally {
+      CiMetrics.stop(project, metric, start);
+    }
+  }
+
+}
@@ -19,6 +19,7 @@ package lt.martynassateika.idea.codeigniter.contributor;
 import com.intellij.codeInsight.completion.CompletionContributor;
 import com.intellij.codeInsight.completion.CompletionType;
 import lt.martynassateika.idea.codeigniter.config.ConfigCompletionProvider;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
 import lt.martynassateika.idea.codeigniter.helper.HelperCompletionProvider;
 import lt.martynassateika.idea.codeigniter.language.LanguageCompletionProvider;
 import lt.martynassateika.idea.codeigniter.model.ModelCompletionProvider;
@@ -32,13 +33,16 @@ public class MyCompletionContributor extends CompletionContributor {
 
   public MyCompletionContributor() {
     extend(CompletionType.BASIC, ConfigCompletionProvider.getPlace(),
-        new ConfigCompletionProvider());
+        new MeasuredCompletionProvider(CiMetric.CONFIG_COMPLETION, new ConfigCompletionProvider()));
     extend(CompletionType.BASIC, HelperCompletionProvider.getPlace(),
-        new HelperCompletionProvider());
+        new MeasuredCompletionProvider(CiMetric.HELPER_COMPLETION, new HelperCompletionProvider()));
     extend(CompletionType.BASIC, LanguageCompletionProvider.getPlace(),
-        new LanguageCompletionProvider());
-    extend(CompletionType.BASIC, ModelCompletionProvider.getPlace(), new ModelCompletionProvider());
-    extend(CompletionType.BASIC, ViewCompletionProvider.getPlace(), new ViewCompletionProvider());
+        new MeasuredCompletionProvider(CiMetric.LANGUAGE_COMPLETION,
+            new LanguageCompletionProvider()));
+    extend(CompletionType.BASIC, ModelCompletionProvider.getPlace(),
+        new MeasuredCompletionProvider(CiMetric.MODEL_COMPLETION, new ModelCompletionProvider()));
+    extend(CompletionType.BASIC, ViewCompletionProvider.getPlace(),
+        new MeasuredCompletionProvider(CiMetric.VIEW_COMPLETION, new ViewCompletionProvider()));
   }
 
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.contributor;
+
+import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.codeInsight.completion.PrefixMatcher;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.ID;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import lt.martynassateika.idea.codeigniter.CiFileUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Completion helpers shared by the index-backed completion providers.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class MyCompletionUtil {
+
+  /**
+   * Collects the keys of an index which match the prefix typed so far.
+   *
+   * Values are not looked up here, as querying an index from within its own key processor is not
+   * allowed.
+   *
+   * @param indexId index to search
+   * @param prefixMatcher prefix matcher of the current completion
+   * @param project current project
+   * @return all matching keys
+   */
+  @NotNull
+  public static List<String> getMatchingKeys(@NotNull ID<String, ?> indexId,
+      @NotNull PrefixMatcher prefixMatcher, @NotNull Project project) {
+    List<String> keys = new ArrayList<>();
+    processMatchingKeys(indexId, prefixMatcher, project, keys::add);
+    return keys;
+  }
+
+  /**
+   * Passes the keys of an index which match the prefix typed so far to a consumer as soon as they
+   * are found, so that lookup elements can be added while the keys are still being read.
+   *
+   * The consumer is called from within the key processor of the index, so it must not query the
+   * index itself. Anything needing index values should be computed lazily, e.g. by an expensive
+   * renderer of the lookup element.
+   *
+   * @param indexId index to search
+   * @param prefixMatcher prefix matcher of the current completion
+   * @param project current project
+   * @param consumer receiver of the matching keys
+   */
+  public static void processMatchingKeys(@NotNull ID<String, ?> indexId,
+      @NotNull PrefixMatcher prefixMatcher, @NotNull Project project,
+      @NotNull Consumer<String> consumer) {
+    FileBasedIndex.getInstance().processAllKeys(indexId, key -> {
+      ProgressManager.checkCanceled();
+      if (prefixMatcher.prefixMatches(key)) {
+        consumer.accept(key);
+      }
+      return true;
+    }, project);
+  }
+
+  /**
+   * Adds a {@link BasicFileLookupElement} for each file stored under a relative path key, e.g.
+   * 'admin/list' in the view index. The application directory is shown as the type text.
+   *
+   * @param resultSet completion result set
+   * @param indexId index keyed by paths relative to a directory such as 'views'
+   * @param key relative path
+   * @param lookupString lookup string of the elements
+   * @param project current project
+   */
+  public static void addFileLookupElements(@NotNull CompletionResultSet resultSet,
+      @NotNull ID<String, ?> indexId, @NotNull String key, @NotNull String lookupString,
+      @NotNull Project project) {
+    GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+    for (VirtualFile file : FileBasedIndex.getInstance().getContainingFiles(indexId, key, scope)) {
+      VirtualFile baseDirectory = CiFileUtil.getBaseDirectory(file, key);
+      VirtualFile applicationDirectory = baseDirectory == null ? null : baseDirectory.getParent();
+      if (applicationDirectory != null) {
+        resultSet.addElement(new BasicFileLookupElement(
+            lookupString,
+            applicationDirectory,
+            file.getFileType().getIcon()
+        ));
+      }
+    }
+  }
+
+}
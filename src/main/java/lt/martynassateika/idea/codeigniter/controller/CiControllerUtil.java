@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.controller;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.ID;
+import com.jetbrains.php.lang.psi.elements.Method;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lt.martynassateika.idea.codeigniter.CiFileUtil;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectService;
+import lt.martynassateika.idea.codeigniter.PhpExtensionUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Utility methods related to CI controllers.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class CiControllerUtil {
+
+  /**
+   * Action called when a URI names a controller but no method.
+   */
+  public static final String DEFAULT_ACTION = "index";
+
+  private static final String CONTROLLER_DIRECTORY_NAME = CodeIgniterProjectService.CONTROLLERS;
+
+  /**
+   * @return identifier of {@link ControllerFileIndex}, e.g. for cache invalidation
+   */
+  @NotNull
+  public static ID<String, ControllerInfo> getIndexId() {
+    return ControllerFileIndex.KEY;
+  }
+
+  /**
+   * Finds the controller methods a URI path is routed to by default, i.e. without routes.
+   *
+   * Like CI's {@code Router::_validate_request()}, segments are walked from the first one: a
+   * segment names a controller if the current directory holds a file of that name, otherwise the
+   * walk descends into the directory of that name, if there is one. The segment after the
+   * controller names the method, falling back to {@link #DEFAULT_ACTION}, and remaining segments
+   * are method arguments. So 'admin/users/edit/1' calls 'users' on 'controllers/Admin.php' if it
+   * exists, and 'edit' on 'controllers/admin/Users.php' only if it does not. If every segment
+   * names a directory, the default controller inside the last one is called.
+   *
+   * @param uriPath URI path without the query string, e.g. 'blog/view/1'
+   * @param defaultController the 'default_controller' route target, e.g. 'welcome', if any
+   * @param applicationDirectory application whose controllers to look in, or {@code null} to
+   * look in all of them
+   * @param project current project
+   * @return methods called for the URI path, empty if there is no such controller or method
+   */
+  @NotNull
+  public static List<Method> findActions(@NotNull String uriPath,
+      @Nullable String defaultController, @Nullable VirtualFile applicationDirectory,
+      @NotNull Project project) {
+    List<String> segments = StringUtil.split(uriPath, "/");
+    if (segments.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Set<Method> methods = new LinkedHashSet<>();
+    for (VirtualFile controllerDirectory : getControllerDirectories(applicationDirectory,
+        project)) {
+      methods.addAll(findActions(segments, defaultController, controllerDirectory, project));
+    }
+    return new ArrayList<>(methods);
+  }
+
+  /**
+   * @param segments URI path segments
+   * @param defaultController the 'default_controller' route target, if any
+   * @param controllerDirectory a 'controllers' directory
+   * @param project current project
+   * @return methods of the controllers in the directory called for the URI path
+   */
+  @NotNull
+  private static List<Method> findActions(@NotNull List<String> segments,
+      @Nullable String defaultController, @NotNull VirtualFile controllerDirectory,
+      @NotNull Project project) {
+    VirtualFile directory = controllerDirectory;
+    String directoryPath = "";
+    for (int i = 0; i < segments.size(); i++) {
+      String segment = segments.get(i);
+      Map<VirtualFile, ControllerInfo> controllers = findControllersIn(
+          getControllerPath(directoryPath + segment), controllerDirectory, project);
+      if (!controllers.isEmpty()) {
+        String action = i + 1 < segments.size() ? segments.get(i + 1) : DEFAULT_ACTION;
+        return findActions(controllers, action, project);
+      }
+      directory = directory.findChild(segment);
+      if (directory == null || !directory.isDirectory()) {
+        return Collections.emptyList();
+      }
+      directoryPath += segment + '/';
+    }
+
+    // Every segment names a directory
+    if (defaultController == null) {
+      return Collections.emptyList();
+    }
+    List<String> defaultSegments = StringUtil.split(defaultController, "/");
+    if (defaultSegments.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Map<VirtualFile, ControllerInfo> controllers = findControllersIn(
+        getControllerPath(directoryPath + defaultSegments.get(0)), controllerDirectory, project);
+    String action = defaultSegments.size() > 1 ? defaultSegments.get(1) : DEFAULT_ACTION;
+    return findActions(controllers, action, project);
+  }
+
+  /**
+   * @param controllerPath controller path as returned by {@link #getControllerPath}
+   * @param applicationDirectory application whose 'controllers' directory to look in, or
+   * {@code null} to look in all of them
+   * @param project current project
+   * @return controllers with the supplied path, mapped by the file they are defined in
+   */
+  @NotNull
+  public static Map<VirtualFile, ControllerInfo> findControllers(@NotNull String controllerPath,
+      @Nullable VirtualFile applicationDirectory, @NotNull Project project) {
+    if (applicationDirectory == null) {
+      return findControllersIn(controllerPath, null, project);
+    }
+    VirtualFile controllerDirectory = applicationDirectory.findChild(CONTROLLER_DIRECTORY_NAME);
+    return controllerDirectory == null ? Collections.emptyMap()
+        : findControllersIn(controllerPath, controllerDirectory, project);
+  }
+
+  /**
+   * @param controllerPath controller path as returned by {@link #getControllerPath}
+   * @param controllerDirectory 'controllers' directory the path is relative to, or {@code null}
+   * for any of them
+   * @param project current project
+   * @return controllers with the supplied path, mapped by the file they are defined in
+   */
+  @NotNull
+  private static Map<VirtualFile, ControllerInfo> findControllersIn(
+      @NotNull String controllerPath, @Nullable VirtualFile controllerDirectory,
+      @NotNull Project project) {
+    Map<VirtualFile, ControllerInfo> controllers = new LinkedHashMap<>();
+    FileBasedIndex.getInstance().processValues(ControllerFileIndex.KEY, controllerPath, null,
+        (file, controllerInfo) -> {
+          // Files in nested 'controllers' directories are indexed under several paths
+          String relativePath = controllerDirectory == null ? null
+              : VfsUtilCore.getRelativePath(file, controllerDirectory, '/');
+          if (controllerDirectory == null || relativePath != null
+              && controllerPath.equals(getControllerPath(relativePath))) {
+            controllers.put(file, controllerInfo);
+          }
+          return true;
+        }, GlobalSearchScope.allScope(project));
+    return controllers;
+  }
+
+  /**
+   * @param applicationDirectory an application directory, or {@code null} for all of them
+   * @param project current project
+   * @return the 'controllers' directory of the application, or all of them
+   */
+  @NotNull
+  private static List<VirtualFile> getControllerDirectories(
+      @Nullable VirtualFile applicationDirectory, @NotNull Project project) {
+    if (applicationDirectory == null) {
+      return CodeIgniterProjectService.getInstance(project)
+          .getDirectories(CodeIgniterProjectService.CONTROLLERS);
+    }
+    VirtualFile controllerDirectory = applicationDirectory.findChild(CONTROLLER_DIRECTORY_NAME);
+    return controllerDirectory == null || !controllerDirectory.isDirectory()
+        ? Collections.emptyList() : Collections.singletonList(controllerDirectory);
+  }
+
+  /**
+   * Only files whose index entry lists the action are parsed.
+   *
+   * @param controllers controllers mapped by the file they are defined in
+   * @param action action name
+   * @param project current project
+   * @return methods called {@code action} in the supplied controllers
+   */
+  @NotNull
+  private static List<Method> findActions(@NotNull Map<VirtualFile, ControllerInfo> controllers,
+      @NotNull String action, @NotNull Project project) {
+    PsiManager psiManager = PsiManager.getInstance(project);
+    List<Method> methods = new ArrayList<>();
+    controllers.forEach((file, controllerInfo) -> {
+      if (controllerInfo.hasAction(action)) {
+        Method method = findMethod(psiManager.findFile(file), controllerInfo, action);
+        if (method != null) {
+          methods.add(method);
+        }
+      }
+    });
+    return methods;
+  }
+
+  @Nullable
+  private static Method findMethod(@Nullable PsiFile psiFile,
+      @NotNull ControllerInfo controllerInfo, @NotNull String action) {
+    for (PhpClass phpClass : PsiTreeUtil.findChildrenOfType(psiFile, PhpClass.class)) {
+      if (phpClass.getFQN().equals(controllerInfo.getClassFqn())) {
+        for (Method method : phpClass.getOwnMethods()) {
+          if (method.getName().equalsIgnoreCase(action)) {
+            return method;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the path under which a controller is stored in {@link ControllerFileIndex}.
+   *
+   * CI capitalizes the first letter of the controller file name, so URIs are written in lower
+   * case. Paths are lower-cased as a whole so that a URI can be looked up as it is written.
+   *
+   * @param relativePath relative path to a controller file, with or without the PHP extension
+   * @return the controller path, e.g. 'admin/users'
+   */
+  @NotNull
+  public static String getControllerPath(@NotNull String relativePath) {
+    return PhpExtensionUtil.removeIfPresent(relativePath).toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * @param file a file or directory
+   * @return the closest ancestor directory called 'controllers', or {@code null} if there is none
+   */
+  @Nullable
+  static VirtualFile getClosestControllerDirectory(@NotNull VirtualFile file) {
+    return CiFileUtil.findClosestAncestor(file, CONTROLLER_DIRECTORY_NAME);
+  }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.controller;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex.InputFilter;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import com.jetbrains.php.lang.PhpFileType;
+import com.jetbrains.php.lang.psi.elements.Method;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of CI controller files, keyed by their URI path, e.g. 'admin/users' for
+ * 'controllers/admin/Users.php'.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class ControllerFileIndex extends FileBasedIndexExtension<String, ControllerInfo> {
+
+  @NonNls
+  static final ID<String, ControllerInfo> KEY = ID.create("codeigniter.controller.file.index");
+
+  private final MyDataIndexer myDataIndexer = new MyDataIndexer();
+
+  @NotNull
+  @Override
+  public ID<String, ControllerInfo> getName() {
+    return KEY;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, ControllerInfo, FileContent> getIndexer() {
+    return myDataIndexer;
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<ControllerInfo> getValueExternalizer() {
+    return ControllerInfoExternalizer.INSTANCE;
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  @NotNull
+  @Override
+  public InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE) {
+      @Override
+      public boolean acceptInput(@NotNull VirtualFile file) {
+        return CiControllerUtil.getClosestControllerDirectory(file) != null;
+      }
+    };
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  private static class MyDataIndexer implements DataIndexer<String, ControllerInfo, FileContent> {
+
+    @NotNull
+    @Override
+    public Map<String, ControllerInfo> map(@NotNull FileContent fileContent) {
+      Project project = fileContent.getProject();
+      long start = CiMetrics.start(project);
+      try {
+        return mapFile(fileContent);
+      } finally {
+        CiMetrics.stop(project, CiMetric.CONTROLLER_INDEX, start);
+      }
+    }
+
+    @NotNull
+    private Map<String, ControllerInfo> mapFile(@NotNull FileContent fileContent) {
+      VirtualFile file = fileContent.getFile();
+      VirtualFile controllerDirectory = CiControllerUtil.getClosestControllerDirectory(file);
+      if (controllerDirectory == null) {
+        return Collections.emptyMap();
+      }
+      ControllerInfo controllerInfo = createControllerInfo(fileContent.getPsiFile());
+      if (controllerInfo == null) {
+        return Collections.emptyMap();
+      }
+      Map<String, ControllerInfo> map = new HashMap<>();
+      while (controllerDirectory != null) {
+        String relativePath = VfsUtilCore.getRelativePath(file, controllerDirectory, '/');
+        if (relativePath != null) {
+          map.put(CiControllerUtil.getControllerPath(relativePath), controllerInfo);
+        }
+        controllerDirectory = CiControllerUtil.getClosestControllerDirectory(controllerDirectory);
+      }
+      return map;
+    }
+
+    /**
+     * @param psiFile a controller file
+     * @return description of the first class declared in the file, or {@code null} if there is
+     * none
+     */
+    @Nullable
+    private static ControllerInfo createControllerInfo(PsiFile psiFile) {
+      PhpClass phpClass = PsiTreeUtil.findChildOfType(psiFile, PhpClass.class);
+      if (phpClass == null) {
+        return null;
+      }
+      List<String> actionNames = new ArrayList<>();
+      for (Method method : phpClass.getOwnMethods()) {
+        if (method.getAccess().isPublic() && !method.isStatic()
+            && !method.getName().startsWith("_")) {
+          actionNames.add(method.getName());
+        }
+      }
+      return new ControllerInfo(phpClass.getFQN(), actionNames);
+    }
+  }
+
+  /**
+   * Stores the class name and the action names of a {@link ControllerInfo}.
+   */
+  static class ControllerInfoExternalizer implements DataExternalizer<ControllerInfo> {
+
+    static final ControllerInfoExternalizer INSTANCE = new ControllerInfoExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out, ControllerInfo value) throws IOException {
+      IOUtil.writeUTF(out, value.getClassFqn());
+      DataInputOutputUtil.writeINT(out, value.getActionNames().size());
+      for (String actionName : value.getActionNames()) {
+        IOUtil.writeUTF(out, actionName);
+      }
+    }
+
+    @Override
+    public ControllerInfo read(@NotNull DataInput in) throws IOException {
+      String classFqn = IOUtil.readUTF(in);
+      int size = DataInputOutputUtil.readINT(in);
+      List<String> actionNames = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        actionNames.add(IOUtil.readUTF(in));
+      }
+      return new ControllerInfo(classFqn, actionNames);
+    }
+
+  }
+
+}
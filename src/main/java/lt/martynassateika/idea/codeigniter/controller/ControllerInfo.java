@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.controller;
+
+import java.util.List;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A controller class, as stored in {@link ControllerFileIndex}.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public final class ControllerInfo {
+
+  @NotNull
+  private final String classFqn;
+
+  @NotNull
+  private final List<String> actionNames;
+
+  ControllerInfo(@NotNull String classFqn, @NotNull List<String> actionNames) {
+    this.classFqn = classFqn;
+    this.actionNames = actionNames;
+  }
+
+  /**
+   * @return fully qualified name of the controller class, or an empty string if there is none
+   */
+  @NotNull
+  public String getClassFqn() {
+    return classFqn;
+  }
+
+  /**
+   * @return names of the methods reachable through a URL, i.e. public methods not starting with
+   * an underscore
+   */
+  @NotNull
+  public List<String> getActionNames() {
+    return actionNames;
+  }
+
+  /**
+   * PHP method names are case-insensitive, and so are CI actions.
+   *
+   * @param name action name, e.g. the second segment of 'blog/view'
+   * @return {@code true} if the controller has an action called {@code name}
+   */
+  public boolean hasAction(@NotNull String name) {
+    for (String actionName : actionNames) {
+      if (actionName.equalsIgnoreCase(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ControllerInfo that = (ControllerInfo) o;
+    return classFqn.equals(that.classFqn) && actionNames.equals(that.actionNames);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(classFqn, actionNames);
+  }
+
+}
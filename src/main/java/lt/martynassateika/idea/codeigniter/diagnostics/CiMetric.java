@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.diagnostics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Operations of the plugin whose timings are collected by {@link CiMetrics}.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public enum CiMetric {
+
+  CONFIG_COMPLETION("Completion: config items"),
+  HELPER_COMPLETION("Completion: helpers"),
+  LANGUAGE_COMPLETION("Completion: language keys"),
+  MODEL_COMPLETION("Completion: models"),
+  VIEW_COMPLETION("Completion: views"),
+
+  CONFIG_RESOLVE("Resolve: config items"),
+  HELPER_RESOLVE("Resolve: helpers"),
+  LANGUAGE_RESOLVE("Resolve: language keys"),
+  MODEL_RESOLVE("Resolve: models"),
+  VIEW_RESOLVE("Resolve: views"),
+  URL_RESOLVE("Resolve: URLs"),
+
+  /**
+   * Values computed from an index and cached on a PSI element.
+   */
+  CACHED_INDEX_VALUE("Cached index values"),
+
+  ROUTE_MATCHER("Route matcher compilation"),
+
+  LANGUAGE_FOLDING("Folding: language keys"),
+
+  CONFIG_INDEX("Index: config files"),
+  CONTROLLER_INDEX("Index: controller files"),
+  HELPER_INDEX("Index: helper files"),
+  LANGUAGE_INDEX("Index: language files"),
+  MODEL_INDEX("Index: model files"),
+  ROUTE_INDEX("Index: routes"),
+  USAGE_INDEX("Index: usages"),
+  VIEW_INDEX("Index: view files"),
+
+  DEAD_ROUTE_INSPECTION("Inspection: dead routes"),
+  HELPER_NOT_LOADED_INSPECTION("Inspection: helper not loaded"),
+  TRANSLATION_DOES_NOT_EXIST_INSPECTION("Inspection: translation does not exist"),
+  TRANSLATION_MISSING_IN_IDIOM_INSPECTION("Inspection: translation missing in some idioms"),
+  UNUSED_CONFIG_ITEM_INSPECTION("Inspection: unused config item"),
+  UNUSED_TRANSLATION_INSPECTION("Inspection: unused translation"),
+  VIEW_DOES_NOT_EXIST_INSPECTION("Inspection: view does not exist");
+
+  @NotNull
+  private final String displayName;
+
+  CiMetric(@NotNull String displayName) {
+    this.displayName = displayName;
+  }
+
+  @NotNull
+  public String getDisplayName() {
+    return displayName;
+  }
+
+}
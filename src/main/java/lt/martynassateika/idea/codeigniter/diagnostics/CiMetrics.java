@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.diagnostics;
+
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects timings of plugin operations in a project, if enabled in
+ * {@link CodeIgniterProjectSettings}.
+ *
+ * Measured code is wrapped as follows:
+ * <pre>{@code
+ * long start = CiMetrics.start(project);
+ * try {
+ *   ...
+ * } finally {
+ *   CiMetrics.stop(project, CiMetric.VIEW_RESOLVE, start);
+ * }
+ * }</pre>
+ *
+ * Recording is lock-free. When diagnostics are disabled, {@link #start} only reads a setting and
+ * {@link #stop} returns immediately.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+@Service
+public final class CiMetrics {
+
+  /**
+   * Returned by {@link #start} if diagnostics are disabled.
+   */
+  private static final long DISABLED = -1;
+
+  /**
+   * Durations are counted in buckets of powers of two microseconds, the last one being open.
+   */
+  private static final int BUCKETS = 32;
+
+  private final Recorder[] recorders;
+
+  public CiMetrics() {
+    CiMetric[] metrics = CiMetric.values();
+    recorders = new Recorder[metrics.length];
+    for (int i = 0; i < metrics.length; i++) {
+      recorders[i] = new Recorder();
+    }
+  }
+
+  public static CiMetrics getInstance(@NotNull Project project) {
+    return project.getService(CiMetrics.class);
+  }
+
+  /**
+   * @param project current project, {@code null} if unknown (e.g. when indexing)
+   * @return the current time in nanoseconds, or a marker value if nothing should be recorded
+   */
+  public static long start(@Nullable Project project) {
+    if (project == null || project.isDisposed()
+        || !CodeIgniterProjectSettings.getInstance(project).isDiagnosticsEnabled()) {
+      return DISABLED;
+    }
+    return System.nanoTime();
+  }
+
+  /**
+   * Records the time elapsed since {@code start}.
+   *
+   * @param project current project
+   * @param metric measured operation
+   * @param start value returned by {@link #start}
+   */
+  public static void stop(@Nullable Project project, @NotNull CiMetric metric, long start) {
+    if (start != DISABLED && project != null && !project.isDisposed()) {
+      getInstance(project).recorders[metric.ordinal()].record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Records a lookup of a cached value. Together with {@link #stop}, which is only called when
+   * the value has to be computed, this gives the cache hit rate.
+   *
+   * @param project current project
+   * @param metric operation computing the cached value
+   */
+  public static void lookup(@NotNull Project project, @NotNull CiMetric metric) {
+    if (!project.isDisposed()
+        && CodeIgniterProjectSettings.getInstance(project).isDiagnosticsEnabled()) {
+      getInstance(project).recorders[metric.ordinal()].lookups.increment();
+    }
+  }
+
+  /**
+   * @return snapshots of all operations executed at least once, in declaration order
+   */
+  @NotNull
+  public List<MetricSnapshot> getSnapshots() {
+    List<MetricSnapshot> snapshots = new ArrayList<>();
+    for (CiMetric metric : CiMetric.values()) {
+      MetricSnapshot snapshot = recorders[metric.ordinal()].snapshot(metric);
+      if (snapshot.getCalls() > 0 || snapshot.getLookups() > 0) {
+        snapshots.add(snapshot);
+      }
+    }
+    return snapshots;
+  }
+
+  /**
+   * Discards everything recorded so far.
+   */
+  public void reset() {
+    for (Recorder recorder : recorders) {
+      recorder.reset();
+    }
+  }
+
+  private static class Recorder {
+
+    private final LongAdder calls = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder lookups = new LongAdder();
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    void record(long nanos) {
+      calls.increment();
+      totalNanos.add(nanos);
+      maxNanos.accumulate(nanos);
+      buckets.incrementAndGet(getBucket(nanos));
+    }
+
+    /**
+     * Values are read one by one, so a snapshot taken while recording may be slightly off.
+     */
+    MetricSnapshot snapshot(CiMetric metric) {
+      long[] counts = new long[BUCKETS];
+      for (int i = 0; i < BUCKETS; i++) {
+        counts[i] = buckets.get(i);
+      }
+      return new MetricSnapshot(metric, calls.sum(), totalNanos.sum(), maxNanos.get(),
+          getPercentile(counts, 0.99), lookups.sum());
+    }
+
+    void reset() {
+      calls.reset();
+      totalNanos.reset();
+      maxNanos.reset();
+      lookups.reset();
+      for (int i = 0; i < BUCKETS; i++) {
+        buckets.set(i, 0);
+      }
+    }
+
+    private static int getBucket(long nanos) {
+      long micros = nanos / 1000;
+      return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+    /**
+     * @return upper bound of the bucket holding the percentile, in nanoseconds
+     */
+    private static long getPercentile(long[] counts, double percentile) {
+      long total = 0;
+      for (long count : counts) {
+        total += count;
+      }
+      long threshold = (long) Math.ceil(total * percentile);
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= threshold && seen > 0) {
+          return (1L << i) * 1000;
+        }
+      }
+      return 0;
+    }
+
+  }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.diagnostics;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.ui.ColumnInfo;
+import com.intellij.util.ui.ListTableModel;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import javax.swing.Timer;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Creates the "CodeIgniter Diagnostics" tool window, showing the timings collected by
+ * {@link CiMetrics}.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class CodeIgniterDiagnosticsToolWindowFactory implements ToolWindowFactory, DumbAware {
+
+  @Override
+  public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+    DiagnosticsPanel panel = new DiagnosticsPanel(project);
+    Content content = ContentFactory.SERVICE.getInstance().createContent(panel, "", false);
+    content.setDisposer(panel);
+    toolWindow.getContentManager().addContent(content);
+  }
+
+  private static class DiagnosticsPanel extends SimpleToolWindowPanel implements Disposable {
+
+    private static final int REFRESH_INTERVAL_MS = 1000;
+
+    @NotNull
+    private final Project project;
+
+    private final ListTableModel<MetricSnapshot> model = new ListTableModel<>(
+        column("Operation", snapshot -> snapshot.getMetric().getDisplayName()),
+        column("Calls", snapshot -> String.valueOf(snapshot.getCalls())),
+        millisColumn("Total (ms)", MetricSnapshot::getTotalNanos),
+        millisColumn("Mean (ms)", MetricSnapshot::getMeanNanos),
+        millisColumn("P99 (ms)", MetricSnapshot::getP99Nanos),
+        millisColumn("Max (ms)", MetricSnapshot::getMaxNanos),
+        column("Cache hit rate", snapshot -> snapshot.getCacheHitRate() < 0 ? ""
+            : String.format(Locale.ROOT, "%.1f%%", snapshot.getCacheHitRate() * 100))
+    );
+
+    private final JBTable table = new JBTable(model);
+
+    private final Timer timer = new Timer(REFRESH_INTERVAL_MS, e -> {
+      if (isShowing()) {
+        refresh();
+      }
+    });
+
+    DiagnosticsPanel(@NotNull Project project) {
+      super(true, true);
+      this.project = project;
+
+      DefaultActionGroup group = new DefaultActionGroup();
+      group.add(new DumbAwareAction("Refresh", "Show the latest timings",
+          AllIcons.Actions.Refresh) {
+        @Override
+        public void actionPerformed(@NotNull AnActionEvent e) {
+          refresh();
+        }
+      });
+      group.add(new DumbAwareAction("Reset", "Discard all collected timings",
+          AllIcons.Actions.GC) {
+        @Override
+        public void actionPerformed(@NotNull AnActionEvent e) {
+          CiMetrics.getInstance(project).reset();
+          refresh();
+        }
+      });
+      group.add(ActionManager.getInstance().getAction(ExportDiagnosticsAction.ID));
+      ActionToolbar toolbar = ActionManager.getInstance()
+          .createActionToolbar("CodeIgniterDiagnostics", group, true);
+      toolbar.setTargetComponent(this);
+      setToolbar(toolbar.getComponent());
+      setContent(ScrollPaneFactory.createScrollPane(table));
+
+      refresh();
+      timer.start();
+    }
+
+    private void refresh() {
+      if (CodeIgniterProjectSettings.getInstance(project).isDiagnosticsEnabled()) {
+        table.getEmptyText().setText("No timings collected yet");
+      } else {
+        table.getEmptyText()
+            .setText("Enable diagnostics in Settings | PHP | CodeIgniter to collect timings");
+      }
+      model.setItems(CiMetrics.getInstance(project).getSnapshots());
+    }
+
+    @Override
+    public void dispose() {
+      timer.stop();
+    }
+
+    private static ColumnInfo<MetricSnapshot, String> millisColumn(String name,
+        ToLongFunction<MetricSnapshot> nanos) {
+      return column(name,
+          snapshot -> ExportDiagnosticsAction.toMillis(nanos.applyAsLong(snapshot)));
+    }
+
+    private static ColumnInfo<MetricSnapshot, String> column(String name,
+        Function<MetricSnapshot, String> valueOf) {
+      return new ColumnInfo<>(name) {
+        @Nullable
+        @Override
+        public String valueOf(MetricSnapshot snapshot) {
+          return valueOf.apply(snapshot);
+        }
+      };
+    }
+
+  }
+
+}
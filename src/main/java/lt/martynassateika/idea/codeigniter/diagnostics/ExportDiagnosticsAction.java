@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.diagnostics;
+
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Saves the timings collected by {@link CiMetrics} to a JSON file.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class ExportDiagnosticsAction extends DumbAwareAction {
+
+  public static final String ID = "CodeIgniter.ExportDiagnostics";
+
+  @Override
+  public void update(@NotNull AnActionEvent e) {
+    e.getPresentation().setEnabled(e.getProject() != null);
+  }
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent e) {
+    Project project = e.getProject();
+    if (project == null) {
+      return;
+    }
+    String json = toJson(CiMetrics.getInstance(project).getSnapshots());
+    FileSaverDescriptor descriptor = new FileSaverDescriptor("Export CodeIgniter Diagnostics",
+        "Save the collected timings as JSON", "json");
+    VirtualFileWrapper wrapper = FileChooserFactory.getInstance()
+        .createSaveFileDialog(descriptor, project)
+        .save((VirtualFile) null, "codeigniter-diagnostics.json");
+    if (wrapper != null) {
+      try {
+        Files.write(wrapper.getFile().toPath(), json.getBytes(StandardCharsets.UTF_8));
+      } catch (IOException ex) {
+        Messages.showErrorDialog(project, ex.getMessage(), "Could Not Export Diagnostics");
+      }
+    }
+  }
+
+  /**
+   * @param snapshots collected timings
+   * @return the timings as a JSON document, durations in milliseconds
+   */
+  @NotNull
+  static String toJson(@NotNull List<MetricSnapshot> snapshots) {
+    StringBuilder builder = new StringBuilder("{\n  \"metrics\": [");
+    for (int i = 0; i < snapshots.size(); i++) {
+      MetricSnapshot snapshot = snapshots.get(i);
+      double cacheHitRate = snapshot.getCacheHitRate();
+      builder.append(i == 0 ? "\n" : ",\n")
+          .append("    {")
+          .append("\"id\": \"").append(snapshot.getMetric().name()).append("\", ")
+          .append("\"name\": \"")
+          .append(StringUtil.escapeStringCharacters(snapshot.getMetric().getDisplayName()))
+          .append("\", ")
+          .append("\"calls\": ").append(snapshot.getCalls()).append(", ")
+          .append("\"totalMs\": ").append(toMillis(snapshot.getTotalNanos())).append(", ")
+          .append("\"meanMs\": ").append(toMillis(snapshot.getMeanNanos())).append(", ")
+          .append("\"p99Ms\": ").append(toMillis(snapshot.getP99Nanos())).append(", ")
+          .append("\"maxMs\": ").append(toMillis(snapshot.getMaxNanos())).append(", ")
+          .append("\"cacheHitRate\": ")
+          .append(cacheHitRate < 0 ? "null" : String.format(Locale.ROOT, "%.4f", cacheHitRate))
+          .append("}");
+    }
+    return builder.append(snapshots.isEmpty() ? "]\n}\n" : "\n  ]\n}\n").toString();
+  }
+
+  @NotNull
+  static String toMillis(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+  }
+
+}
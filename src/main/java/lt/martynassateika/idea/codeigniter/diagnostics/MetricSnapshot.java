@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.diagnostics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Timings of a single {@link CiMetric} at some point in time.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public final class MetricSnapshot {
+
+  @NotNull
+  private final CiMetric metric;
+
+  private final long calls;
+
+  private final long totalNanos;
+
+  private final long maxNanos;
+
+  private final long p99Nanos;
+
+  private final long lookups;
+
+  MetricSnapshot(@NotNull CiMetric metric, long calls, long totalNanos, long maxNanos,
+      long p99Nanos, long lookups) {
+    this.metric = metric;
+    this.calls = calls;
+    this.totalNanos = totalNanos;
+    this.maxNanos = maxNanos;
+    this.p99Nanos = p99Nanos;
+    this.lookups = lookups;
+  }
+
+  @NotNull
+  public CiMetric getMetric() {
+    return metric;
+  }
+
+  /**
+   * @return number of times the operation was executed
+   */
+  public long getCalls() {
+    return calls;
+  }
+
+  public long getTotalNanos() {
+    return totalNanos;
+  }
+
+  public long getMeanNanos() {
+    return calls == 0 ? 0 : totalNanos / calls;
+  }
+
+  public long getMaxNanos() {
+    return maxNanos;
+  }
+
+  /**
+   * @return upper bound of the 99th percentile, accurate to a factor of two
+   */
+  public long getP99Nanos() {
+    return p99Nanos;
+  }
+
+  /**
+   * @return number of lookups of a cached result, zero if the operation is not cached
+   */
+  public long getLookups() {
+    return lookups;
+  }
+
+  /**
+   * @return share of lookups not requiring the operation to be executed, or -1 if not cached
+   */
+  public double getCacheHitRate() {
+    if (lookups == 0) {
+      return -1;
+    }
+    return Math.max(0, lookups - calls) / (double) lookups;
+  }
+
+}
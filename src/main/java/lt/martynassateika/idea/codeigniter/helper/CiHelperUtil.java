@@ -17,22 +17,32 @@
 package lt.martynassateika.idea.codeigniter.helper;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiFileSystemItem;
 import com.intellij.psi.PsiManager;
-import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.util.indexing.FileBasedIndex;
 import com.jetbrains.php.lang.PhpFileType;
 import com.jetbrains.php.lang.parser.PhpElementTypes;
+import com.jetbrains.php.lang.psi.elements.ArrayAccessExpression;
 import com.jetbrains.php.lang.psi.elements.ArrayCreationExpression;
+import com.jetbrains.php.lang.psi.elements.ArrayIndex;
+import com.jetbrains.php.lang.psi.elements.AssignmentExpression;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import com.jetbrains.php.lang.psi.elements.Variable;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import lt.martynassateika.idea.codeigniter.CiFileUtil;
 import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Utility methods related to CI Helpers.
@@ -40,10 +50,15 @@ import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
  * @author martynas.sateika
  * @since 0.3.0
  */
-class CiHelperUtil {
+public class CiHelperUtil {
 
   private static final String FILE_SUFFIX = "_helper.php";
 
+  private static final String HELPER_DIRECTORY_NAME = "helpers";
+
+  private static final Key<CachedValue<Collection<VirtualFile>>> HELPER_FILES_KEY = Key
+      .create("codeigniter.helper.files");
+
   /**
    * @param file a file
    * @return whether {@code file} should be considered a helper file
@@ -53,49 +68,73 @@ class CiHelperUtil {
   }
 
   /**
+   * Removes a trailing '.php' and then a trailing '_helper', e.g. 'url_helper.php' becomes 'url'.
+   *
    * @param relativePath a relative path
    * @return the relative path formatted so as not to have the {@link #FILE_SUFFIX} at the end
    */
-  static String formatHelperPath(String relativePath) {
-    return relativePath.replaceAll("(_helper)?(\\.php)?$", "");
+  public static String formatHelperPath(String relativePath) {
+    return StringUtil.trimEnd(StringUtil.trimEnd(relativePath, ".php"), "_helper");
   }
 
   /**
-   * Returns a list of helper files whose relative path from a helper directory equals the supplied
-   * relative path.
+   * Returns a list of helper files whose relative path from a helper directory equals the relative
+   * path in the supplied string literal.
    *
-   * @param relativePath relative path to a helper file
-   * @param project current project
+   * @param literalExpression string literal containing a relative path to a helper file
    * @return list of all matching helper files
    */
-  static List<PsiFile> findHelperFiles(String relativePath, Project project) {
-    PsiManager psiManager = PsiManager.getInstance(project);
-
-    // Get rid of various possible combinations of '_helper' and '.php', then add the suffix back
-    String fullPath = formatHelperPath(relativePath) + FILE_SUFFIX;
-
+  static List<PsiFile> findHelperFiles(StringLiteralExpression literalExpression) {
+    PsiManager psiManager = literalExpression.getManager();
     List<PsiFile> helperFiles = new ArrayList<>();
-    for (PsiFileSystemItem fileSystemItem : getHelperDirectories(project)) {
-      VirtualFile helperDirectory = fileSystemItem.getVirtualFile();
-      VirtualFile helperFile = helperDirectory.findFileByRelativePath(fullPath);
-      if (helperFile != null && !helperFile.isDirectory()) {
-        PsiFile psiFile = psiManager.findFile(helperFile);
-        if (psiFile != null) {
-          helperFiles.add(psiFile);
-        }
+    for (VirtualFile helperFile : getHelperFiles(literalExpression)) {
+      PsiFile psiFile = psiManager.findFile(helperFile);
+      if (psiFile != null) {
+        helperFiles.add(psiFile);
       }
     }
     return helperFiles;
   }
 
   /**
+   * @param literalExpression string literal containing a relative path to a helper file
+   * @return all helper files whose relative path from a helper directory equals the supplied one
+   */
+  private static Collection<VirtualFile> getHelperFiles(
+      StringLiteralExpression literalExpression) {
+    return MyPsiUtil.getCachedIndexValue(literalExpression, HELPER_FILES_KEY, HelperFileIndex.KEY,
+        literal -> {
+          // Get rid of various possible combinations of '_helper' and '.php'
+          String helperName = formatHelperPath(StringUtil.unquoteString(literal.getText()));
+          return FileBasedIndex.getInstance().getContainingFiles(HelperFileIndex.KEY, helperName,
+              GlobalSearchScope.allScope(literal.getProject()));
+        });
+  }
+
+  /**
+   * Returns the names of helpers declaring a function, e.g. 'url' for 'site_url'.
+   *
+   * @param functionName function name
    * @param project current project
-   * @return all directories called 'helpers' in the project
+   * @return names of all helpers declaring a function called {@code functionName}
    */
-  static List<PsiFileSystemItem> getHelperDirectories(Project project) {
-    GlobalSearchScope scope = GlobalSearchScope.allScope(project);
-    PsiFileSystemItem[] items = FilenameIndex.getFilesByName(project, "helpers", scope, true);
-    return Arrays.stream(items).filter(PsiFileSystemItem::isDirectory).collect(Collectors.toList());
+  @NotNull
+  static Set<String> findHelpersDefining(@NotNull String functionName, @NotNull Project project) {
+    Set<String> helperNames = new LinkedHashSet<>();
+    for (List<String> names : FileBasedIndex.getInstance().getValues(HelperFunctionIndex.KEY,
+        functionName, GlobalSearchScope.allScope(project))) {
+      helperNames.addAll(names);
+    }
+    return helperNames;
+  }
+
+  /**
+   * @param file a file or directory
+   * @return the closest ancestor directory called 'helpers', or {@code null} if there is none
+   */
+  @Nullable
+  static VirtualFile getClosestHelperDirectory(@NotNull VirtualFile file) {
+    return CiFileUtil.findClosestAncestor(file, HELPER_DIRECTORY_NAME);
   }
 
   /**
@@ -105,22 +144,46 @@ class CiHelperUtil {
    * <pre>{@code
    * $this->load->helper('>foo<'); // single helper
    * $this->load->helper('>foo<', '>bar<', '>baz<'); // multiple helpers
+   * $autoload['helper'] = array('>foo<', '>bar<'); // autoloaded helpers, config/autoload.php
    * }</pre>
    *
    * @param literalExpression a string literal expression
    * @return true if the element represents the name of a helper file
    */
-  static boolean isHelperNameElement(StringLiteralExpression literalExpression) {
+  public static boolean isHelperNameElement(StringLiteralExpression literalExpression) {
     PsiElement arrayValue = literalExpression.getParent();
     if (arrayValue.getNode().getElementType() == PhpElementTypes.ARRAY_VALUE) {
       // Check if defined in array
       ArrayCreationExpression arrayCreationExpression = MyPsiUtil
           .getParentOfType(arrayValue, ArrayCreationExpression.class);
-      return isArgumentOfLoadHelper(arrayCreationExpression, 0);
+      return isArgumentOfLoadHelper(arrayCreationExpression, 0)
+          || isAutoloadedHelpers(arrayCreationExpression);
     } else {
       // Check if single argument call
-      return isArgumentOfLoadHelper(literalExpression, 0);
+      return isArgumentOfLoadHelper(literalExpression, 0)
+          || isAutoloadedHelpers(literalExpression);
+    }
+  }
+
+  /**
+   * @param element an element
+   * @return {@code true} if {@code element} is assigned to {@code $autoload['helper']}
+   */
+  private static boolean isAutoloadedHelpers(@Nullable PsiElement element) {
+    if (element == null || !(element.getParent() instanceof AssignmentExpression)) {
+      return false;
+    }
+    AssignmentExpression assignment = (AssignmentExpression) element.getParent();
+    if (assignment.getValue() != element
+        || !(assignment.getVariable() instanceof ArrayAccessExpression)) {
+      return false;
     }
+    ArrayAccessExpression arrayAccess = (ArrayAccessExpression) assignment.getVariable();
+    PsiElement array = arrayAccess.getFirstChild();
+    ArrayIndex index = arrayAccess.getIndex();
+    return array instanceof Variable && "autoload".equals(((Variable) array).getName())
+        && index != null && index.getValue() instanceof StringLiteralExpression
+        && "helper".equals(((StringLiteralExpression) index.getValue()).getContents());
   }
 
   /**
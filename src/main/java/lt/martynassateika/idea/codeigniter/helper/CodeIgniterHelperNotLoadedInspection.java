@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.helper;
+
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.lang.ASTNode;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.jetbrains.php.PhpIndex;
+import com.jetbrains.php.lang.psi.PhpPsiElementFactory;
+import com.jetbrains.php.lang.psi.elements.Function;
+import com.jetbrains.php.lang.psi.elements.FunctionReference;
+import com.jetbrains.php.lang.psi.elements.Method;
+import com.jetbrains.php.lang.psi.elements.Statement;
+import com.jetbrains.php.lang.psi.visitors.PhpElementVisitor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import lt.martynassateika.idea.codeigniter.inspection.CodeIgniterInspection;
+import lt.martynassateika.idea.codeigniter.usage.CiUsageUtil;
+import lt.martynassateika.idea.codeigniter.usage.UsageKind;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.Nls.Capitalization;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reports calls to helper functions, e.g. 'site_url', whose helper is neither loaded by
+ * 'load->helper' nor autoloaded anywhere in the project.
+ *
+ * Disabled by default, as helpers loaded by a variable name or by third-party code cannot be seen.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class CodeIgniterHelperNotLoadedInspection extends CodeIgniterInspection {
+
+  @Nls
+  @NotNull
+  @Override
+  public String getDisplayName() {
+    return "Helper not loaded";
+  }
+
+  @Override
+  public boolean isEnabledByDefault() {
+    return false;
+  }
+
+  @NotNull
+  @Override
+  public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder problemsHolder, boolean b) {
+    return new PhpElementVisitor() {
+      @Override
+      public void visitPhpFunctionCall(FunctionReference reference) {
+        String functionName = reference.getName();
+        Project project = reference.getProject();
+        VirtualFile file = reference.getContainingFile().getVirtualFile();
+        // Helpers calling each other rely on whoever loaded the calling helper
+        if (functionName == null || file == null || CiHelperUtil.isHelperFile(file)
+            || !CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
+          return;
+        }
+        long start = CiMetrics.start(project);
+        try {
+          checkFunctionCall(reference, functionName, project);
+        } finally {
+          CiMetrics.stop(project, CiMetric.HELPER_NOT_LOADED_INSPECTION, start);
+        }
+      }
+
+      private void checkFunctionCall(FunctionReference reference, String functionName,
+          Project project) {
+        Set<String> helperNames = CiHelperUtil.findHelpersDefining(functionName, project);
+        if (helperNames.isEmpty() || isAnyLoaded(helperNames, project)
+            || isDeclaredOutsideHelpers(functionName, project)) {
+          return;
+        }
+        List<String> quotedNames = new ArrayList<>();
+        List<LocalQuickFix> fixes = new ArrayList<>();
+        boolean canLoad = canLoadHelpers(reference);
+        for (String helperName : helperNames) {
+          quotedNames.add('\'' + helperName + '\'');
+          if (canLoad) {
+            fixes.add(new LoadHelperQuickFix(helperName));
+          }
+        }
+        ASTNode nameNode = reference.getNameNode();
+        problemsHolder.registerProblem(nameNode != null ? nameNode.getPsi() : reference,
+            String.format("'%s' is declared by helper %s, which is never loaded", functionName,
+                String.join(" or ", quotedNames)),
+            fixes.toArray(LocalQuickFix.EMPTY_ARRAY));
+      }
+    };
+  }
+
+  /**
+   * @param helperNames helper names
+   * @param project current project
+   * @return {@code true} if any of the helpers is loaded or autoloaded anywhere in the project
+   */
+  private static boolean isAnyLoaded(Set<String> helperNames, Project project) {
+    Set<String> loadedNames = CiUsageUtil.getUsedNames(UsageKind.HELPER, project);
+    for (String helperName : helperNames) {
+      if (loadedNames.contains(helperName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param functionName function name
+   * @param project current project
+   * @return {@code true} if a function with the same name is declared outside of helper files
+   */
+  private static boolean isDeclaredOutsideHelpers(String functionName, Project project) {
+    for (Function function : PhpIndex.getInstance(project).getFunctionsByName(functionName)) {
+      VirtualFile file = function.getContainingFile().getVirtualFile();
+      if (file == null || !CiHelperUtil.isHelperFile(file)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param element an element
+   * @return {@code true} if the element is in an instance method, where {@code $this->load} works
+   */
+  private static boolean canLoadHelpers(PsiElement element) {
+    Function function = PsiTreeUtil.getParentOfType(element, Function.class);
+    return function instanceof Method && !((Method) function).isStatic()
+        && PsiTreeUtil.getParentOfType(element, Statement.class) != null;
+  }
+
+  /**
+   * Loads a helper right before the statement which uses it.
+   */
+  private static class LoadHelperQuickFix implements LocalQuickFix {
+
+    private final String helperName;
+
+    LoadHelperQuickFix(String helperName) {
+      this.helperName = helperName;
+    }
+
+    @Nls(capitalization = Capitalization.Sentence)
+    @NotNull
+    @Override
+    public String getName() {
+      return String.format("Load helper '%s'", helperName);
+    }
+
+    @Nls(capitalization = Capitalization.Sentence)
+    @NotNull
+    @Override
+    public String getFamilyName() {
+      return "Load helper";
+    }
+
+    @Override
+    public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor problemDescriptor) {
+      Statement statement = PsiTreeUtil
+          .getParentOfType(problemDescriptor.getPsiElement(), Statement.class);
+      if (statement != null) {
+        Statement loadStatement = PhpPsiElementFactory.createStatement(project,
+            String.format("$this->load->helper('%s');", helperName));
+        statement.getParent().addBefore(loadStatement, statement);
+      }
+    }
+
+  }
+
+}
@@ -19,25 +19,17 @@ package lt.martynassateika.idea.codeigniter.helper;
 import com.intellij.codeInsight.completion.CompletionParameters;
 import com.intellij.codeInsight.completion.CompletionProvider;
 import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.text.StringUtil;
-import com.intellij.openapi.vfs.VfsUtil;
-import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.openapi.vfs.VirtualFileVisitor;
-import com.intellij.patterns.PlatformPatterns;
 import com.intellij.patterns.PsiElementPattern;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFileSystemItem;
 import com.intellij.psi.impl.source.tree.LeafPsiElement;
 import com.intellij.util.ProcessingContext;
-import com.jetbrains.php.lang.PhpLanguage;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
-import java.util.List;
-import javax.swing.Icon;
 
 import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
-import lt.martynassateika.idea.codeigniter.compat.VfsUtilCompat;
-import lt.martynassateika.idea.codeigniter.contributor.BasicFileLookupElement;
+import lt.martynassateika.idea.codeigniter.contributor.MyCompletionUtil;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiPatterns;
 import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
 import org.jetbrains.annotations.NotNull;
 
@@ -55,33 +47,11 @@ public class HelperCompletionProvider extends CompletionProvider<CompletionParam
     PsiElement originalPosition = completionParameters.getOriginalPosition();
     if (shouldShowSuggestions(originalPosition)) {
       Project project = originalPosition.getProject();
-      List<PsiFileSystemItem> helperDirectories = CiHelperUtil.getHelperDirectories(project);
-      for (PsiFileSystemItem helperDirectory : helperDirectories) {
-        VirtualFile directoryVirtualFile = helperDirectory.getVirtualFile();
-        VirtualFile applicationDirectory = directoryVirtualFile.getParent();
-        VfsUtil
-            .visitChildrenRecursively(directoryVirtualFile, new VirtualFileVisitor<Object>() {
-              @Override
-              public boolean visitFile(@NotNull VirtualFile file) {
-                if (CiHelperUtil.isHelperFile(file)) {
-                  String relativePath = VfsUtilCompat
-                      .findRelativePath(directoryVirtualFile, file, '/');
-                  if (relativePath != null) {
-                    String formattedRelativePath = CiHelperUtil
-                        .formatHelperPath(relativePath);
-                    if (StringUtil.isNotEmpty(relativePath)) {
-                      Icon icon = file.getFileType().getIcon();
-                      resultSet.addElement(new BasicFileLookupElement(
-                          formattedRelativePath,
-                          applicationDirectory,
-                          icon
-                      ));
-                    }
-                  }
-                }
-                return true;
-              }
-            });
+      for (String helperName : MyCompletionUtil.getMatchingKeys(HelperFileIndex.KEY,
+          resultSet.getPrefixMatcher(), project)) {
+        ProgressManager.checkCanceled();
+        MyCompletionUtil.addFileLookupElements(resultSet, HelperFileIndex.KEY, helperName,
+            helperName, project);
       }
     }
   }
@@ -108,10 +78,7 @@ public class HelperCompletionProvider extends CompletionProvider<CompletionParam
   public static PsiElementPattern.Capture<LeafPsiElement> getPlace() {
     // helper('foo')
     // helper(array('foo', 'bar', 'baz'))
-    return PlatformPatterns
-        .psiElement(LeafPsiElement.class)
-        .withParent(StringLiteralExpression.class)
-        .withLanguage(PhpLanguage.INSTANCE);
+    return MyPsiPatterns.completionIn(MyPsiPatterns.stringOrArrayElementArgumentOf("helper"));
   }
 
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.helper;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex.InputFilter;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import com.jetbrains.php.lang.psi.elements.Function;
+import com.jetbrains.php.lang.psi.elements.Method;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Index of CI helper files, keyed by helper name (e.g. 'url', 'admin/acl'). The values are the
+ * names of the functions each helper declares.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class HelperFileIndex extends FileBasedIndexExtension<String, List<String>> {
+
+  @NonNls
+  static final ID<String, List<String>> KEY = ID.create("codeigniter.helper.file.index");
+
+  private final MyDataIndexer myDataIndexer = new MyDataIndexer();
+
+  @NotNull
+  @Override
+  public ID<String, List<String>> getName() {
+    return KEY;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, List<String>, FileContent> getIndexer() {
+    return myDataIndexer;
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<List<String>> getValueExternalizer() {
+    return FunctionNamesExternalizer.INSTANCE;
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  @NotNull
+  @Override
+  public InputFilter getInputFilter() {
+    return file -> CiHelperUtil.isHelperFile(file)
+        && CiHelperUtil.getClosestHelperDirectory(file) != null;
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  private static class MyDataIndexer implements DataIndexer<String, List<String>, FileContent> {
+
+    @NotNull
+    @Override
+    public Map<String, List<String>> map(@NotNull FileContent fileContent) {
+      Project project = fileContent.getProject();
+      long start = CiMetrics.start(project);
+      try {
+        return mapFile(fileContent);
+      } finally {
+        CiMetrics.stop(project, CiMetric.HELPER_INDEX, start);
+      }
+    }
+  }
+
+  /**
+   * Also used by {@link HelperFunctionIndex}, which stores the same data keyed by function name.
+   *
+   * @param fileContent content of a helper file
+   * @return names of the functions the file declares, keyed by every helper name of the file
+   */
+  @NotNull
+  static Map<String, List<String>> mapFile(@NotNull FileContent fileContent) {
+    VirtualFile file = fileContent.getFile();
+    VirtualFile helperDirectory = CiHelperUtil.getClosestHelperDirectory(file);
+    if (helperDirectory == null) {
+      return Collections.emptyMap();
+    }
+    List<String> functionNames = getFunctionNames(fileContent.getPsiFile());
+    Map<String, List<String>> map = new HashMap<>();
+    while (helperDirectory != null) {
+      String relativePath = VfsUtilCore.getRelativePath(file, helperDirectory, '/');
+      if (relativePath != null) {
+        map.put(CiHelperUtil.formatHelperPath(relativePath), functionNames);
+      }
+      helperDirectory = CiHelperUtil.getClosestHelperDirectory(helperDirectory);
+    }
+    return map;
+  }
+
+  /**
+   * Helper functions are usually wrapped in {@code if (!function_exists('foo'))} blocks, so all
+   * named functions are collected rather than just the top-level ones.
+   *
+   * @param psiFile a helper file
+   * @return names of all functions declared in the file
+   */
+  @NotNull
+  private static List<String> getFunctionNames(PsiFile psiFile) {
+    List<String> functionNames = new ArrayList<>();
+    for (Function function : PsiTreeUtil.findChildrenOfType(psiFile, Function.class)) {
+      if (!(function instanceof Method) && !function.isClosure()) {
+        functionNames.add(function.getName());
+      }
+    }
+    return functionNames;
+  }
+
+  /**
+   * Stores a list of names: the functions declared by a helper, or the helpers declaring a
+   * function in {@link HelperFunctionIndex}.
+   */
+  static class FunctionNamesExternalizer implements DataExternalizer<List<String>> {
+
+    static final FunctionNamesExternalizer INSTANCE = new FunctionNamesExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out, List<String> value) throws IOException {
+      DataInputOutputUtil.writeINT(out, value.size());
+      for (String functionName : value) {
+        IOUtil.writeUTF(out, functionName);
+      }
+    }
+
+    @Override
+    public List<String> read(@NotNull DataInput in) throws IOException {
+      int size = DataInputOutputUtil.readINT(in);
+      List<String> functionNames = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        functionNames.add(IOUtil.readUTF(in));
+      }
+      return functionNames;
+    }
+
+  }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.helper;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex.InputFilter;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reverse of {@link HelperFileIndex}: keyed by function name (e.g. 'site_url'), the values are the
+ * names of the helpers declaring the function (e.g. 'url').
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class HelperFunctionIndex extends FileBasedIndexExtension<String, List<String>> {
+
+  @NonNls
+  static final ID<String, List<String>> KEY = ID.create("codeigniter.helper.function.index");
+
+  private final MyDataIndexer myDataIndexer = new MyDataIndexer();
+
+  @NotNull
+  @Override
+  public ID<String, List<String>> getName() {
+    return KEY;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, List<String>, FileContent> getIndexer() {
+    return myDataIndexer;
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<List<String>> getValueExternalizer() {
+    return HelperFileIndex.FunctionNamesExternalizer.INSTANCE;
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  @NotNull
+  @Override
+  public InputFilter getInputFilter() {
+    return file -> CiHelperUtil.isHelperFile(file)
+        && CiHelperUtil.getClosestHelperDirectory(file) != null;
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  private static class MyDataIndexer implements DataIndexer<String, List<String>, FileContent> {
+
+    @NotNull
+    @Override
+    public Map<String, List<String>> map(@NotNull FileContent fileContent) {
+      Project project = fileContent.getProject();
+      long start = CiMetrics.start(project);
+      try {
+        return mapFile(fileContent);
+      } finally {
+        CiMetrics.stop(project, CiMetric.HELPER_INDEX, start);
+      }
+    }
+
+    /**
+     * Inverts the data {@link HelperFileIndex} stores for the same file, so that both indices
+     * agree on helper names and declared functions.
+     */
+    @NotNull
+    private Map<String, List<String>> mapFile(@NotNull FileContent fileContent) {
+      Map<String, List<String>> helpers = HelperFileIndex.mapFile(fileContent);
+      Map<String, List<String>> map = new HashMap<>();
+      helpers.forEach((helperName, functionNames) -> {
+        for (String functionName : functionNames) {
+          map.computeIfAbsent(functionName, name -> new ArrayList<>()).add(helperName);
+        }
+      });
+      return map;
+    }
+  }
+
+}
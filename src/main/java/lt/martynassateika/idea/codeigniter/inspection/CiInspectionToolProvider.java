@@ -17,7 +17,12 @@
 package lt.martynassateika.idea.codeigniter.inspection;
 
 import com.intellij.codeInspection.InspectionToolProvider;
+import lt.martynassateika.idea.codeigniter.config.CodeIgniterUnusedConfigItemInspection;
+import lt.martynassateika.idea.codeigniter.helper.CodeIgniterHelperNotLoadedInspection;
 import lt.martynassateika.idea.codeigniter.language.CodeIgniterTranslationDoesNotExistInspection;
+import lt.martynassateika.idea.codeigniter.language.CodeIgniterTranslationMissingInIdiomInspection;
+import lt.martynassateika.idea.codeigniter.language.CodeIgniterUnusedTranslationInspection;
+import lt.martynassateika.idea.codeigniter.route.CodeIgniterDeadRouteInspection;
 import lt.martynassateika.idea.codeigniter.view.CodeIgniterReturnedViewNotUsedInspection;
 import lt.martynassateika.idea.codeigniter.view.CodeIgniterSimplifiableViewNameInspection;
 import lt.martynassateika.idea.codeigniter.view.CodeIgniterViewDoesNotExistInspection;
@@ -35,9 +40,14 @@ public class CiInspectionToolProvider implements InspectionToolProvider {
   @Override
   public Class[] getInspectionClasses() {
     return new Class[]{
+        CodeIgniterDeadRouteInspection.class,
+        CodeIgniterHelperNotLoadedInspection.class,
         CodeIgniterReturnedViewNotUsedInspection.class,
         CodeIgniterSimplifiableViewNameInspection.class,
         CodeIgniterTranslationDoesNotExistInspection.class,
+        CodeIgniterTranslationMissingInIdiomInspection.class,
+        CodeIgniterUnusedConfigItemInspection.class,
+        CodeIgniterUnusedTranslationInspection.class,
         CodeIgniterViewDoesNotExistInspection.class,
     };
   }
@@ -17,20 +17,30 @@
 package lt.martynassateika.idea.codeigniter.language;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
 import com.intellij.util.indexing.FileBasedIndex;
 import com.jetbrains.php.lang.PhpFileType;
-import com.jetbrains.php.lang.psi.PhpFile;
-import com.jetbrains.php.lang.psi.elements.AssignmentExpression;
+import com.jetbrains.php.lang.psi.elements.ArrayIndex;
+import com.jetbrains.php.lang.psi.elements.BinaryExpression;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
-import com.jetbrains.php.lang.psi.visitors.PhpRecursiveElementVisitor;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import lt.martynassateika.idea.codeigniter.CiFileUtil;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectService;
 import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
+import lt.martynassateika.idea.codeigniter.psi.MyStringEvaluator;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Utility methods related to the CI Language class.
@@ -38,7 +48,13 @@ import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
  * @author martynas.sateika
  * @since 0.1.0
  */
-class CiLanguageUtil {
+public class CiLanguageUtil {
+
+  private static final Key<CachedValue<Map<VirtualFile, Translation>>> TRANSLATIONS_KEY = Key
+      .create("codeigniter.translations");
+
+  private static final Key<CachedValue<List<String>>> MATCHING_KEYS_KEY = Key
+      .create("codeigniter.matching.language.keys");
 
   /**
    * Returns {@code true} if the supplied file is a CI language file.
@@ -46,10 +62,10 @@ class CiLanguageUtil {
    * According to the <a href="https://www.codeigniter.com/userguide3/libraries/language.html#creating-language-files">CI
    * documentation</a>, "Language files must be named with _lang.php as the filename extension".
    *
-   * @param file a PHP file
+   * @param file a file
    * @return {@code true} if the file is a CI language file
    */
-  static boolean isLanguageFile(PhpFile file) {
+  public static boolean isLanguageFile(VirtualFile file) {
     return file.getName().endsWith("_lang.php");
   }
 
@@ -59,48 +75,165 @@ class CiLanguageUtil {
    * @param element an element
    * @return {@code true} if the supplied element represents a language line key
    */
-  static boolean isLanguageLineKeyElement(PsiElement element) {
+  public static boolean isLanguageLineKeyElement(PsiElement element) {
     return MyPsiUtil.isArgumentOfFunction(element, "lang", 0);
   }
 
+  /**
+   * Like {@link #isLanguageLineKeyElement}, but also accepts the first argument of
+   * {@code $this->lang->line()}.
+   *
+   * @param element an element
+   * @return {@code true} if the element is a language line key passed to 'lang' or 'lang->line'
+   */
+  public static boolean isLanguageLineArgument(PsiElement element) {
+    return isLanguageLineKeyElement(element)
+        || MyPsiUtil.isArgumentOfMethod(element, "lang", "line", 0);
+  }
+
+  /**
+   * Returns the idiom of a language file, i.e. the name of the directory below 'language' it is
+   * placed in. Language files may be kept in subdirectories of the idiom directory, e.g.
+   * 'language/english/admin/users_lang.php' for {@code $this->lang->load('admin/users')}.
+   *
+   * @param file a language file
+   * @return the idiom, e.g. 'english', the name of the parent directory if the file is not in a
+   * 'language' directory, or an empty string if the file has no parent
+   */
+  @NotNull
+  static String getIdiom(@NotNull VirtualFile file) {
+    VirtualFile languageDirectory = CiFileUtil
+        .findClosestAncestor(file, CodeIgniterProjectService.LANGUAGE);
+    if (languageDirectory != null) {
+      String relativePath = VfsUtilCore.getRelativePath(file, languageDirectory, '/');
+      int slash = relativePath == null ? -1 : relativePath.indexOf('/');
+      if (slash > 0) {
+        return relativePath.substring(0, slash);
+      }
+    }
+    VirtualFile parent = file.getParent();
+    return parent == null ? "" : parent.getName();
+  }
+
   /**
    * @param project current project
    * @param literalExpression containing the language key
-   * @return assignment expressions matching the language key across all language files
+   * @return translations of the language key, mapped by the language file they are defined in
    */
-  static List<AssignmentExpression> findTranslationsFor(
+  static Map<VirtualFile, Translation> findTranslationsFor(
       Project project,
       StringLiteralExpression literalExpression) {
-    return findTranslationsFor(project, literalExpression.getContents());
+    return MyPsiUtil.getCachedIndexValue(literalExpression, TRANSLATIONS_KEY,
+        LanguageFileIndex.KEY, literal -> findTranslationsFor(project, literal.getContents()));
+  }
+
+  /**
+   * @param literalExpression containing the language key
+   * @return array indices defining the language key in language files
+   */
+  static List<ArrayIndex> findTranslationElements(StringLiteralExpression literalExpression) {
+    PsiManager psiManager = literalExpression.getManager();
+    List<ArrayIndex> elements = new ArrayList<>();
+    findTranslationsFor(literalExpression.getProject(), literalExpression)
+        .forEach((file, translation) -> {
+          ArrayIndex index = MyPsiUtil.findArrayIndex(psiManager, file, translation.getOffset());
+          if (index != null) {
+            elements.add(index);
+          }
+        });
+    return elements;
+  }
+
+  /**
+   * Returns translations of all language keys a concatenation starting with the supplied string
+   * literal may evaluate to, e.g. 'error_not_found' for {@code 'error_' . $code}.
+   *
+   * @param literalExpression first operand of a concatenation
+   * @return array indices defining the matching language keys in language files
+   */
+  static List<ArrayIndex> findMatchingTranslationElements(
+      StringLiteralExpression literalExpression) {
+    BinaryExpression concatenation = MyStringEvaluator.getConcatenation(literalExpression);
+    if (concatenation == null) {
+      return Collections.emptyList();
+    }
+    Project project = literalExpression.getProject();
+    List<String> keys = MyPsiUtil.getCachedIndexValue(concatenation, MATCHING_KEYS_KEY,
+        LanguageFileIndex.KEY, element -> MyStringEvaluator
+            .findMatchingKeys(MyStringEvaluator.evaluate(element), LanguageFileIndex.KEY, project));
+    PsiManager psiManager = literalExpression.getManager();
+    List<ArrayIndex> elements = new ArrayList<>();
+    for (String key : keys) {
+      findTranslationsFor(project, key).forEach((file, translation) -> {
+        ArrayIndex index = MyPsiUtil.findArrayIndex(psiManager, file, translation.getOffset());
+        if (index != null) {
+          elements.add(index);
+        }
+      });
+    }
+    return elements;
   }
 
   /**
    * @param project current project
    * @param text language key
-   * @return assignment expressions matching the language key across all language files
+   * @return translations of the language key, mapped by the language file they are defined in
    */
-  private static List<AssignmentExpression> findTranslationsFor(Project project, String text) {
-    List<AssignmentExpression> expressions = new ArrayList<>();
-    FileBasedIndex.getInstance().getFilesWithKey(LanguageFileIndex.KEY,
-        Collections.singleton(text), file -> {
-          PsiManager psiManager = PsiManager.getInstance(project);
-          PsiFile psiFile = psiManager.findFile(file);
-          if (psiFile instanceof PhpFile) {
-            //noinspection deprecation
-            psiFile.accept(new PhpRecursiveElementVisitor() {
-              @Override
-              public void visitPhpAssignmentExpression(AssignmentExpression assignmentExpression) {
-                if (MyPsiUtil.isArrayAccessWithStringIndex(assignmentExpression, text)) {
-                  expressions.add(assignmentExpression);
-                }
-              }
-            });
-          }
+  static Map<VirtualFile, Translation> findTranslationsFor(Project project, String text) {
+    Map<VirtualFile, Translation> translations = new LinkedHashMap<>();
+    FileBasedIndex.getInstance().processValues(LanguageFileIndex.KEY, text, null,
+        (file, translation) -> {
+          translations.put(file, translation);
           return true;
-        }, GlobalSearchScope
-            .getScopeRestrictedByFileTypes(GlobalSearchScope.allScope(project),
-                PhpFileType.INSTANCE));
-    return expressions;
+        }, getScope(project));
+    return translations;
+  }
+
+  /**
+   * Looks up a translation for each of the supplied keys.
+   *
+   * Translations in the preferred idiom are used where possible. Other keys get the first
+   * translation found in the index, regardless of its idiom.
+   *
+   * @param project current project
+   * @param keys language keys
+   * @return a translation for each key, keys without translations are left out
+   */
+  static Map<String, String> findTranslationTexts(Project project, Collection<String> keys) {
+    PreferredTranslations preferredTranslations = PreferredTranslations.getInstance(project);
+    FileBasedIndex index = FileBasedIndex.getInstance();
+    GlobalSearchScope scope = getScope(project);
+    Map<String, String> texts = new HashMap<>();
+    for (String key : keys) {
+      String text = preferredTranslations.getText(key);
+      if (text != null) {
+        texts.put(key, text);
+      } else {
+        index.processValues(LanguageFileIndex.KEY, key, null, (file, translation) -> {
+          texts.put(key, translation.getText());
+          return false;
+        }, scope);
+      }
+    }
+    return texts;
+  }
+
+  /**
+   * @param project current project
+   * @param literalExpression containing the language key
+   * @return {@code true} if the language key is defined in at least one language file
+   */
+  static boolean hasTranslation(Project project, StringLiteralExpression literalExpression) {
+    return !findTranslationsFor(project, literalExpression).isEmpty();
+  }
+
+  /**
+   * @param project current project
+   * @return scope in which language files are searched for
+   */
+  static GlobalSearchScope getScope(Project project) {
+    return GlobalSearchScope.getScopeRestrictedByFileTypes(GlobalSearchScope.allScope(project),
+        PhpFileType.INSTANCE);
   }
 
 }
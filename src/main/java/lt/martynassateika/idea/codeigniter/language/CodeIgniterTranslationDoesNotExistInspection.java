@@ -22,8 +22,9 @@ import com.intellij.psi.PsiElementVisitor;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
 import com.jetbrains.php.lang.psi.visitors.PhpElementVisitor;
 import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
 import lt.martynassateika.idea.codeigniter.inspection.CodeIgniterInspection;
-import lt.martynassateika.idea.codeigniter.psi.MyPsiReference;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 
@@ -49,12 +50,16 @@ public class CodeIgniterTranslationDoesNotExistInspection extends CodeIgniterIns
         Project project = expression.getProject();
         if (CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
           if (CiLanguageUtil.isLanguageLineKeyElement(expression)) {
-            // TODO Reference check enough?
-            if (!MyPsiReference.referencesElement(expression)) {
-              problemsHolder.registerProblem(expression, String.format(
-                  "Translation for '%s' does not exist",
-                  expression.getContents()
-              ));
+            long start = CiMetrics.start(project);
+            try {
+              if (!CiLanguageUtil.hasTranslation(project, expression)) {
+                problemsHolder.registerProblem(expression, String.format(
+                    "Translation for '%s' does not exist",
+                    expression.getContents()
+                ));
+              }
+            } finally {
+              CiMetrics.stop(project, CiMetric.TRANSLATION_DOES_NOT_EXIST_INSPECTION, start);
             }
           }
         }
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.language;
+
+import com.intellij.analysis.AnalysisScope;
+import com.intellij.codeInspection.GlobalInspectionContext;
+import com.intellij.codeInspection.GlobalInspectionTool;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptionsProcessor;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.reference.RefElement;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import lt.martynassateika.idea.codeigniter.usage.CiUsageUtil;
+import lt.martynassateika.idea.codeigniter.usage.UsageKind;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Batch inspection reporting language keys which are defined in some idioms but missing in others.
+ *
+ * All used keys and all defined keys are read from the indices once, so the running time depends
+ * on the number of distinct keys rather than on the number of 'lang' calls. Keys missing in every
+ * idiom are left to {@link CodeIgniterTranslationDoesNotExistInspection}, and keys which are never
+ * used to {@link CodeIgniterUnusedTranslationInspection}.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class CodeIgniterTranslationMissingInIdiomInspection extends GlobalInspectionTool {
+
+  @Nls
+  @NotNull
+  @Override
+  public String getGroupDisplayName() {
+    return "CodeIgniter";
+  }
+
+  @Nls
+  @NotNull
+  @Override
+  public String getDisplayName() {
+    return "Translation missing in some idioms";
+  }
+
+  /**
+   * Disabled by default, as only keys passed to 'lang' and 'lang->line' as string literals are
+   * known to be used.
+   */
+  @Override
+  public boolean isEnabledByDefault() {
+    return false;
+  }
+
+  @Override
+  public boolean isGraphNeeded() {
+    return false;
+  }
+
+  @Override
+  public void runInspection(@NotNull AnalysisScope scope, @NotNull InspectionManager manager,
+      @NotNull GlobalInspectionContext globalContext,
+      @NotNull ProblemDescriptionsProcessor problemDescriptionsProcessor) {
+    Project project = globalContext.getProject();
+    if (!CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
+      return;
+    }
+    Reporter reporter = new Reporter(scope, manager, globalContext, problemDescriptionsProcessor);
+    long start = CiMetrics.start(project);
+    try {
+      inspect(project, reporter);
+    } finally {
+      CiMetrics.stop(project, CiMetric.TRANSLATION_MISSING_IN_IDIOM_INSPECTION, start);
+    }
+  }
+
+  /**
+   * @param project current project
+   * @param reporter receives used keys which some idioms define and others do not
+   */
+  private static void inspect(@NotNull Project project, @NotNull Reporter reporter) {
+    Map<String, Map<String, Translation>> definitions = findDefinitions(project);
+    Set<String> idioms = new TreeSet<>();
+    definitions.values().forEach(byIdiom -> idioms.addAll(byIdiom.keySet()));
+    for (String key : CiUsageUtil.getUsedNames(UsageKind.LANGUAGE, project)) {
+      ProgressManager.checkCanceled();
+      Map<String, Translation> byIdiom = definitions.getOrDefault(key, Collections.emptyMap());
+      if (!byIdiom.isEmpty() && byIdiom.size() < idioms.size()) {
+        Set<String> missingIdioms = new TreeSet<>(idioms);
+        missingIdioms.removeAll(byIdiom.keySet());
+        reporter.reportUsages(key, String.format("Translation for '%s' is missing in %s", key,
+            String.join(", ", missingIdioms)));
+      }
+    }
+  }
+
+  /**
+   * @param project current project
+   * @return translations of every language key, mapped by language key and idiom
+   */
+  @NotNull
+  private static Map<String, Map<String, Translation>> findDefinitions(@NotNull Project project) {
+    FileBasedIndex index = FileBasedIndex.getInstance();
+    GlobalSearchScope scope = CiLanguageUtil.getScope(project);
+    List<String> keys = new ArrayList<>();
+    index.processAllKeys(LanguageFileIndex.KEY, key -> {
+      keys.add(key);
+      return true;
+    }, project);
+
+    Map<String, Map<String, Translation>> definitions = new HashMap<>();
+    for (String key : keys) {
+      ProgressManager.checkCanceled();
+      index.processValues(LanguageFileIndex.KEY, key, null, (file, translation) -> {
+        definitions.computeIfAbsent(key, k -> new HashMap<>())
+            .putIfAbsent(translation.getIdiom(), translation);
+        return true;
+      }, scope);
+    }
+    return definitions;
+  }
+
+  /**
+   * Reports problems found in files within the analysis scope.
+   */
+  private static class Reporter {
+
+    @NotNull
+    private final AnalysisScope scope;
+
+    @NotNull
+    private final InspectionManager manager;
+
+    @NotNull
+    private final GlobalInspectionContext globalContext;
+
+    @NotNull
+    private final ProblemDescriptionsProcessor processor;
+
+    @NotNull
+    private final PsiManager psiManager;
+
+    @NotNull
+    private final GlobalSearchScope searchScope;
+
+    Reporter(@NotNull AnalysisScope scope, @NotNull InspectionManager manager,
+        @NotNull GlobalInspectionContext globalContext,
+        @NotNull ProblemDescriptionsProcessor processor) {
+      this.scope = scope;
+      this.manager = manager;
+      this.globalContext = globalContext;
+      this.processor = processor;
+      this.psiManager = PsiManager.getInstance(globalContext.getProject());
+      this.searchScope = GlobalSearchScope.allScope(globalContext.getProject());
+    }
+
+    /**
+     * @param key language key
+     * @param message problem description
+     */
+    void reportUsages(@NotNull String key, @NotNull String message) {
+      CiUsageUtil.processUsages(UsageKind.LANGUAGE, key, searchScope, (file, offset) -> {
+        if (scope.contains(file)) {
+          report(CiUsageUtil.findUsage(psiManager, file, offset), message);
+        }
+        return true;
+      });
+    }
+
+    private void report(PsiElement element, @NotNull String message) {
+      if (element != null) {
+        RefElement refElement = globalContext.getRefManager()
+            .getReference(element.getContainingFile());
+        if (refElement != null) {
+          processor.addProblemElement(refElement, manager.createProblemDescriptor(element,
+              message, false, LocalQuickFix.EMPTY_ARRAY,
+              ProblemHighlightType.GENERIC_ERROR_OR_WARNING));
+        }
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.language;
+
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElementVisitor;
+import com.jetbrains.php.lang.psi.PhpFile;
+import com.jetbrains.php.lang.psi.visitors.PhpElementVisitor;
+import java.util.Set;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import lt.martynassateika.idea.codeigniter.inspection.CodeIgniterInspection;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
+import lt.martynassateika.idea.codeigniter.usage.CiUsageUtil;
+import lt.martynassateika.idea.codeigniter.usage.UsageKind;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reports translations in language files which are not used by any 'lang' or 'lang->line' call.
+ *
+ * Used keys come straight from the usage index, no references are resolved. Keys starting with
+ * the literal start of a concatenated key, e.g. 'error_' in {@code lang('error_' . $code)}, count
+ * as used. Disabled by default, as keys computed in any other way are not spotted.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class CodeIgniterUnusedTranslationInspection extends CodeIgniterInspection {
+
+  @Nls
+  @NotNull
+  @Override
+  public String getDisplayName() {
+    return "Unused translation";
+  }
+
+  @Override
+  public boolean isEnabledByDefault() {
+    return false;
+  }
+
+  @NotNull
+  @Override
+  public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder problemsHolder, boolean b) {
+    return new PhpElementVisitor() {
+      @Override
+      public void visitPhpFile(PhpFile phpFile) {
+        Project project = phpFile.getProject();
+        VirtualFile file = phpFile.getVirtualFile();
+        if (file != null && CiLanguageUtil.isLanguageFile(file)
+            && CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
+          long start = CiMetrics.start(project);
+          try {
+            Set<String> usedKeys = CiUsageUtil.getUsedNames(UsageKind.LANGUAGE, project);
+            Set<String> usedPrefixes = CiUsageUtil
+                .getUsedNames(UsageKind.LANGUAGE_PREFIX, project);
+            MyPsiUtil.processArrayAssignments(phpFile, "lang", (key, index, value) -> {
+              if (!usedKeys.contains(key) && !startsWithAny(key, usedPrefixes)) {
+                problemsHolder.registerProblem(index,
+                    String.format("Translation '%s' is never used", key),
+                    ProblemHighlightType.LIKE_UNUSED_SYMBOL);
+              }
+            });
+          } finally {
+            CiMetrics.stop(project, CiMetric.UNUSED_TRANSLATION_INSPECTION, start);
+          }
+        }
+      }
+    };
+  }
+
+  private static boolean startsWithAny(@NotNull String key, @NotNull Set<String> prefixes) {
+    for (String prefix : prefixes) {
+      if (key.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
@@ -21,11 +21,11 @@ import com.intellij.codeInsight.completion.CompletionProvider;
 import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.codeInsight.lookup.LookupElementRenderer;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.IconLoader;
+import com.intellij.openapi.util.Ref;
 import com.intellij.openapi.util.text.StringUtil;
-import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.patterns.PlatformPatterns;
 import com.intellij.patterns.PsiElementPattern;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.impl.source.tree.LeafPsiElement;
@@ -33,16 +33,14 @@ import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.ProcessingContext;
 import com.intellij.util.indexing.FileBasedIndex;
 import com.jetbrains.php.lang.PhpFileType;
-import com.jetbrains.php.lang.PhpLanguage;
-import com.jetbrains.php.lang.psi.elements.FunctionReference;
-import com.jetbrains.php.lang.psi.elements.ParameterList;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
-import java.util.Collection;
-import java.util.Collections;
 
 import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import lt.martynassateika.idea.codeigniter.contributor.MyCompletionUtil;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiPatterns;
 import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Provides possible language keys for 'lang' calls.
@@ -52,6 +50,8 @@ import org.jetbrains.annotations.NotNull;
  */
 public class LanguageCompletionProvider extends CompletionProvider<CompletionParameters> {
 
+  private static final int MAX_TYPE_TEXT_LENGTH = 40;
+
   @Override
   protected void addCompletions(@NotNull CompletionParameters completionParameters,
       @NotNull ProcessingContext processingContext, @NotNull CompletionResultSet completionResultSet) {
@@ -60,23 +60,9 @@ public class LanguageCompletionProvider extends CompletionProvider<CompletionPar
       Project project = originalPosition.getProject();
       if (CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
         if (isFirstArgumentInLangCall(originalPosition)) {
-          FileBasedIndex index = FileBasedIndex.getInstance();
-          Collection<String> allKeys = index.getAllKeys(LanguageFileIndex.KEY, project);
-          for (String key : allKeys) {
-            index.getFilesWithKey(LanguageFileIndex.KEY, Collections.singleton(key),
-                file -> {
-                  LanguageLookupElement lookupElement = new LanguageLookupElement(
-                      StringUtil.unquoteString(key),
-                      file
-                  );
-                  completionResultSet.addElement(lookupElement);
-                  return false;
-                }, GlobalSearchScope.getScopeRestrictedByFileTypes(
-                    GlobalSearchScope.allScope(project),
-                    PhpFileType.INSTANCE
-                )
-            );
-          }
+          MyCompletionUtil.processMatchingKeys(LanguageFileIndex.KEY,
+              completionResultSet.getPrefixMatcher(), project,
+              key -> completionResultSet.addElement(new LanguageLookupElement(key, project)));
         }
       }
     }
@@ -98,12 +84,7 @@ public class LanguageCompletionProvider extends CompletionProvider<CompletionPar
   @NotNull
   public static PsiElementPattern.Capture<LeafPsiElement> getPlace() {
     // lang('foo');
-    return PlatformPatterns
-        .psiElement(LeafPsiElement.class)
-        .withParent(StringLiteralExpression.class)
-        .withSuperParent(2, ParameterList.class)
-        .withSuperParent(3, FunctionReference.class)
-        .withLanguage(PhpLanguage.INSTANCE);
+    return MyPsiPatterns.completionInStringArgumentOf("lang");
   }
 
   private static class LanguageLookupElement extends LookupElement {
@@ -112,11 +93,11 @@ public class LanguageCompletionProvider extends CompletionProvider<CompletionPar
     private final String languageKey;
 
     @NotNull
-    private final VirtualFile file;
+    private final Project project;
 
-    LanguageLookupElement(@NotNull String languageKey, @NotNull VirtualFile file) {
+    LanguageLookupElement(@NotNull String languageKey, @NotNull Project project) {
       this.languageKey = languageKey;
-      this.file = file;
+      this.project = project;
     }
 
     @NotNull
@@ -129,8 +110,43 @@ public class LanguageCompletionProvider extends CompletionProvider<CompletionPar
     public void renderElement(LookupElementPresentation presentation) {
       super.renderElement(presentation);
       presentation.setIcon(IconLoader.findIcon("/icons/php-icon.png"));
-      presentation.setTypeText(file.getNameWithoutExtension());
-      presentation.setTypeGrayed(true);
+    }
+
+    /**
+     * Shows the translation in the preferred idiom, or the name of the file the key is defined in.
+     * Both come from the language index, so they are looked up in the background once the element
+     * is shown rather than while keys are being collected.
+     */
+    @Nullable
+    @Override
+    public LookupElementRenderer<LanguageLookupElement> getExpensiveRenderer() {
+      return (element, presentation) -> {
+        element.renderElement(presentation);
+        String typeText = PreferredTranslations.getInstance(project).getText(languageKey);
+        if (typeText == null) {
+          typeText = findFileName();
+        }
+        if (typeText != null) {
+          presentation.setTypeText(StringUtil.first(typeText, MAX_TYPE_TEXT_LENGTH, true));
+          presentation.setTypeGrayed(true);
+        }
+      };
+    }
+
+    @Nullable
+    private String findFileName() {
+      GlobalSearchScope scope = GlobalSearchScope.getScopeRestrictedByFileTypes(
+          GlobalSearchScope.allScope(project),
+          PhpFileType.INSTANCE
+      );
+      Ref<String> fileName = Ref.create();
+      // The first translation found is enough to describe the key
+      FileBasedIndex.getInstance().processValues(LanguageFileIndex.KEY, languageKey, null,
+          (file, translation) -> {
+            fileName.set(translation.getFileName());
+            return false;
+          }, scope);
+      return fileName.get();
     }
 
   }
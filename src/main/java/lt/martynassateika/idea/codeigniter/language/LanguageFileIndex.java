@@ -16,9 +16,10 @@
 
 package lt.martynassateika.idea.codeigniter.language;
 
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiManager;
 import com.intellij.util.indexing.DataIndexer;
 import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
 import com.intellij.util.indexing.FileBasedIndex.InputFilter;
@@ -26,19 +27,21 @@ import com.intellij.util.indexing.FileBasedIndexExtension;
 import com.intellij.util.indexing.FileContent;
 import com.intellij.util.indexing.ID;
 import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
 import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
 import com.intellij.util.io.KeyDescriptor;
 import com.jetbrains.php.lang.PhpFileType;
 import com.jetbrains.php.lang.psi.PhpFile;
-import com.jetbrains.php.lang.psi.elements.ArrayAccessExpression;
-import com.jetbrains.php.lang.psi.elements.ArrayIndex;
-import com.jetbrains.php.lang.psi.elements.PhpPsiElement;
-import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
-import com.jetbrains.php.lang.psi.visitors.PhpRecursiveElementVisitor;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import lt.martynassateika.idea.codeigniter.compat.VoidDataExternalizer;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 
@@ -48,22 +51,22 @@ import org.jetbrains.annotations.NotNull;
  * @author martynas.sateika
  * @since 0.1.0
  */
-public class LanguageFileIndex extends FileBasedIndexExtension<String, Void> {
+public class LanguageFileIndex extends FileBasedIndexExtension<String, Translation> {
 
   @NonNls
-  static final ID<String, Void> KEY = ID.create("codeigniter.language.file.index");
+  static final ID<String, Translation> KEY = ID.create("codeigniter.language.file.index");
 
   private final MyDataIndexer myDataIndexer = new MyDataIndexer();
 
   @NotNull
   @Override
-  public ID<String, Void> getName() {
+  public ID<String, Translation> getName() {
     return KEY;
   }
 
   @NotNull
   @Override
-  public DataIndexer<String, Void, FileContent> getIndexer() {
+  public DataIndexer<String, Translation, FileContent> getIndexer() {
     return myDataIndexer;
   }
 
@@ -75,19 +78,24 @@ public class LanguageFileIndex extends FileBasedIndexExtension<String, Void> {
 
   @NotNull
   @Override
-  public DataExternalizer<Void> getValueExternalizer() {
-    return VoidDataExternalizer.INSTANCE;
+  public DataExternalizer<Translation> getValueExternalizer() {
+    return TranslationExternalizer.INSTANCE;
   }
 
   @Override
   public int getVersion() {
-    return 1;
+    return 6;
   }
 
   @NotNull
   @Override
   public InputFilter getInputFilter() {
-    return new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE);
+    return new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE) {
+      @Override
+      public boolean acceptInput(@NotNull VirtualFile file) {
+        return CiLanguageUtil.isLanguageFile(file);
+      }
+    };
   }
 
   @Override
@@ -95,36 +103,70 @@ public class LanguageFileIndex extends FileBasedIndexExtension<String, Void> {
     return true;
   }
 
-  private class MyDataIndexer implements DataIndexer<String, Void, FileContent> {
+  private static class MyDataIndexer implements DataIndexer<String, Translation, FileContent> {
 
-    @SuppressWarnings("deprecation")
     @NotNull
     @Override
-    public Map<String, Void> map(@NotNull FileContent fileContent) {
-      VirtualFile file = fileContent.getFile();
-      PsiManager psiManager = PsiManager.getInstance(fileContent.getProject());
-      PsiFile psiFile = psiManager.findFile(file);
-      if (psiFile instanceof PhpFile) {
-        if (CiLanguageUtil.isLanguageFile((PhpFile) psiFile)) {
-          Map<String, Void> map = new HashMap<>();
-          psiFile.accept(new PhpRecursiveElementVisitor() {
-            @Override
-            public void visitPhpArrayAccessExpression(ArrayAccessExpression expression) {
-              ArrayIndex index = expression.getIndex();
-              if (index != null) {
-                PhpPsiElement value = index.getValue();
-                if (value instanceof StringLiteralExpression) {
-                  String text = ((StringLiteralExpression) value).getContents();
-                  map.put(text, null);
-                }
-              }
-            }
-          });
-          return map;
-        }
+    public Map<String, Translation> map(@NotNull FileContent fileContent) {
+      Project project = fileContent.getProject();
+      long start = CiMetrics.start(project);
+      try {
+        return mapFile(fileContent);
+      } finally {
+        CiMetrics.stop(project, CiMetric.LANGUAGE_INDEX, start);
       }
-      return Collections.emptyMap();
     }
+
+    @NotNull
+    private Map<String, Translation> mapFile(@NotNull FileContent fileContent) {
+      // Only language files get here, see getInputFilter()
+      if (!StringUtil.contains(fileContent.getContentAsText(), "$lang")) {
+        return Collections.emptyMap();
+      }
+      PsiFile psiFile = fileContent.getPsiFile();
+      if (!(psiFile instanceof PhpFile)) {
+        return Collections.emptyMap();
+      }
+      VirtualFile file = fileContent.getFile();
+      String idiom = CiLanguageUtil.getIdiom(file);
+      String fileName = file.getNameWithoutExtension();
+      Map<String, Translation> map = new HashMap<>();
+      MyPsiUtil.processArrayAssignments(psiFile, "lang", (key, index, value) -> map.put(key,
+          new Translation(
+              index.getTextRange().getStartOffset(),
+              StringUtil.unquoteString(value.getText()),
+              idiom,
+              fileName
+          )
+      ));
+      return map;
+    }
+  }
+
+  /**
+   * Stores the index offset, the text, the idiom and the file name of a {@link Translation}.
+   */
+  static class TranslationExternalizer implements DataExternalizer<Translation> {
+
+    static final TranslationExternalizer INSTANCE = new TranslationExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out, Translation value) throws IOException {
+      DataInputOutputUtil.writeINT(out, value.getOffset());
+      IOUtil.writeUTF(out, value.getText());
+      IOUtil.writeUTF(out, value.getIdiom());
+      IOUtil.writeUTF(out, value.getFileName());
+    }
+
+    @Override
+    public Translation read(@NotNull DataInput in) throws IOException {
+      int offset = DataInputOutputUtil.readINT(in);
+      String text = IOUtil.readUTF(in);
+      String idiom = IOUtil.readUTF(in);
+      String fileName = IOUtil.readUTF(in);
+      return new Translation(offset, text, idiom, fileName);
+    }
+
   }
 
 }
@@ -20,29 +20,46 @@ import com.intellij.lang.ASTNode;
 import com.intellij.lang.folding.FoldingBuilderEx;
 import com.intellij.lang.folding.FoldingDescriptor;
 import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.util.Key;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.PsiTreeUtil;
-import com.jetbrains.php.lang.psi.elements.AssignmentExpression;
 import com.jetbrains.php.lang.psi.elements.FunctionReference;
-import com.jetbrains.php.lang.psi.elements.PhpPsiElement;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Folding builder that replaces language keys with actual translations in calls to 'lang'.
  *
+ * Translations in the preferred idiom are shown where possible. They are looked up for all keys of
+ * a file at once and kept until either the file, the index or the preferred idiom changes. In
+ * quick mode and while indexing, keys are folded to their own text without touching the index; the
+ * translations replace them in the next full pass.
+ *
  * @author martynas.sateika
  * @since 0.1.0
  */
-public class LanguageFoldingBuilder extends FoldingBuilderEx {
+public class LanguageFoldingBuilder extends FoldingBuilderEx implements DumbAware {
+
+  private static final Key<CachedValue<Map<String, String>>> TRANSLATIONS_KEY = Key
+      .create("codeigniter.folding.translations");
 
   @NotNull
   @Override
@@ -52,58 +69,81 @@ public class LanguageFoldingBuilder extends FoldingBuilderEx {
     if (!CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
       return FoldingDescriptor.EMPTY;
     }
+    long start = CiMetrics.start(project);
+    try {
+      return buildFoldRegions(psiElement, quick || DumbService.isDumb(project));
+    } finally {
+      CiMetrics.stop(project, CiMetric.LANGUAGE_FOLDING, start);
+    }
+  }
 
-    List<FoldingDescriptor> descriptors = new ArrayList<>();
-    Collection<FunctionReference> functionReferences = PsiTreeUtil
-        .findChildrenOfType(psiElement, FunctionReference.class);
-    for (FunctionReference reference : functionReferences) {
+  @NotNull
+  private static FoldingDescriptor[] buildFoldRegions(@NotNull PsiElement psiElement,
+      boolean withoutIndex) {
+    List<StringLiteralExpression> languageKeys = findLanguageKeys(psiElement);
+    List<FoldingDescriptor> descriptors = new ArrayList<>(languageKeys.size());
+    if (withoutIndex) {
+      // Don't touch the index, the key text stands in until the translations are known
+      for (StringLiteralExpression languageKey : languageKeys) {
+        descriptors.add(createDescriptor(languageKey, languageKey.getText()));
+      }
+    } else {
+      Map<String, String> translations = getTranslations(psiElement.getContainingFile());
+      for (StringLiteralExpression languageKey : languageKeys) {
+        String translation = translations.get(languageKey.getContents());
+        if (translation != null) {
+          descriptors.add(createDescriptor(languageKey, translation));
+        }
+      }
+    }
+    return descriptors.toArray(FoldingDescriptor.EMPTY);
+  }
+
+  /**
+   * @param element element to search in
+   * @return string literals passed as the first argument to 'lang'
+   */
+  @NotNull
+  private static List<StringLiteralExpression> findLanguageKeys(@NotNull PsiElement element) {
+    List<StringLiteralExpression> languageKeys = new ArrayList<>();
+    for (FunctionReference reference : PsiTreeUtil
+        .findChildrenOfType(element, FunctionReference.class)) {
       if ("lang".equals(reference.getName())) {
         PsiElement[] parameters = reference.getParameters();
-        if (parameters.length > 0) {
-          PsiElement firstParameter = parameters[0];
-          if (firstParameter instanceof StringLiteralExpression) {
-            String translation = getTranslation(project, (StringLiteralExpression) firstParameter);
-            if (translation != null) {
-              FoldingDescriptor foldingDescriptor = createDescriptor(firstParameter, translation);
-              descriptors.add(foldingDescriptor);
-            }
-          }
+        if (parameters.length > 0 && parameters[0] instanceof StringLiteralExpression) {
+          languageKeys.add((StringLiteralExpression) parameters[0]);
         }
       }
     }
-    return descriptors.toArray(FoldingDescriptor.EMPTY);
+    return languageKeys;
   }
 
   /**
-   * Creates a folding descriptor for a PSI element.
-   *
-   * @param element element to fold
-   * @param translation translation to display
+   * @param file a file containing calls to 'lang'
+   * @return translations of all language keys used in the file, mapped by language key
    */
-  private static FoldingDescriptor createDescriptor(PsiElement element, String translation) {
-    return new FoldingDescriptor(element.getNode(), element.getTextRange()) {
-      @Override
-      public String getPlaceholderText() {
-        return translation;
+  @NotNull
+  private static Map<String, String> getTranslations(@NotNull PsiFile file) {
+    return CachedValuesManager.getCachedValue(file, TRANSLATIONS_KEY, () -> {
+      Project project = file.getProject();
+      Set<String> keys = new LinkedHashSet<>();
+      for (StringLiteralExpression languageKey : findLanguageKeys(file)) {
+        keys.add(languageKey.getContents());
       }
-    };
+      return Result.create(CiLanguageUtil.findTranslationTexts(project, keys), file,
+          MyPsiUtil.getIndexModificationTracker(LanguageFileIndex.KEY, project),
+          PreferredTranslations.getInstance(project));
+    });
   }
 
   /**
-   * @param project current project
-   * @param expression language key
-   * @return translation if found, else null
+   * Creates a folding descriptor for a PSI element.
+   *
+   * @param element element to fold
+   * @param placeholder the text to display
    */
-  @Nullable
-  private static String getTranslation(Project project, StringLiteralExpression expression) {
-    List<AssignmentExpression> translations = CiLanguageUtil.findTranslationsFor(project, expression);
-    if (translations.isEmpty()) {
-      return null;
-    }
-    // TODO Sorting
-    AssignmentExpression firstTranslation = translations.get(0);
-    PhpPsiElement value = firstTranslation.getValue();
-    return value == null ? null : StringUtil.unquoteString(value.getText());
+  private static FoldingDescriptor createDescriptor(PsiElement element, String placeholder) {
+    return new FoldingDescriptor(element.getNode(), element.getTextRange(), null, placeholder);
   }
 
   @Nullable
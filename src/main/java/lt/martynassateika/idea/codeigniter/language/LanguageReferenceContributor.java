@@ -17,22 +17,20 @@
 package lt.martynassateika.idea.codeigniter.language;
 
 import com.intellij.openapi.project.Project;
-import com.intellij.patterns.PlatformPatterns;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceContributor;
 import com.intellij.psi.PsiReferenceProvider;
 import com.intellij.psi.PsiReferenceRegistrar;
 import com.intellij.util.ProcessingContext;
-import com.jetbrains.php.lang.psi.elements.ArrayAccessExpression;
-import com.jetbrains.php.lang.psi.elements.ArrayIndex;
-import com.jetbrains.php.lang.psi.elements.AssignmentExpression;
+import com.jetbrains.php.lang.psi.elements.BinaryExpression;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
-import java.util.ArrayList;
-import java.util.List;
 
 import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
-import lt.martynassateika.idea.codeigniter.psi.MyPsiReference;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.psi.MyPolyVariantReference;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiPatterns;
+import lt.martynassateika.idea.codeigniter.psi.MyStringEvaluator;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -45,7 +43,7 @@ public class LanguageReferenceContributor extends PsiReferenceContributor {
 
   @Override
   public void registerReferenceProviders(@NotNull PsiReferenceRegistrar psiReferenceRegistrar) {
-    psiReferenceRegistrar.registerReferenceProvider(PlatformPatterns.psiElement(),
+    psiReferenceRegistrar.registerReferenceProvider(MyPsiPatterns.stringArgumentOf("lang"),
         new PsiReferenceProvider() {
           @NotNull
           @Override
@@ -56,26 +54,39 @@ public class LanguageReferenceContributor extends PsiReferenceContributor {
               if (psiElement instanceof StringLiteralExpression) {
                 StringLiteralExpression stringLiteralExpression = (StringLiteralExpression) psiElement;
                 if (CiLanguageUtil.isLanguageLineKeyElement(stringLiteralExpression)) {
-                  List<AssignmentExpression> translations = CiLanguageUtil.findTranslationsFor(
-                      project,
-                      stringLiteralExpression
-                  );
-                  List<PsiReference> references = new ArrayList<>(translations.size());
-                  for (AssignmentExpression translation : translations) {
-                    ArrayAccessExpression arrayAccessExpression = (ArrayAccessExpression) translation
-                        .getVariable();
-                    if (arrayAccessExpression != null) {
-                      ArrayIndex index = arrayAccessExpression.getIndex();
-                      references.add(new MyPsiReference(index, stringLiteralExpression));
-                    }
-                  }
-                  return references.toArray(PsiReference.EMPTY_ARRAY);
+                  return new PsiReference[]{
+                      new MyPolyVariantReference(stringLiteralExpression, CiMetric.LANGUAGE_RESOLVE,
+                          CiLanguageUtil::findTranslationElements)
+                  };
                 }
               }
             }
             return PsiReference.EMPTY_ARRAY;
           }
         });
+    psiReferenceRegistrar.registerReferenceProvider(MyPsiPatterns.stringInConcatenation(),
+        new PsiReferenceProvider() {
+          @NotNull
+          @Override
+          public PsiReference[] getReferencesByElement(@NotNull PsiElement psiElement,
+              @NotNull ProcessingContext processingContext) {
+            // lang('error_' . $code);
+            Project project = psiElement.getProject();
+            if (CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
+              StringLiteralExpression literalExpression = (StringLiteralExpression) psiElement;
+              BinaryExpression concatenation = MyStringEvaluator
+                  .getConcatenation(literalExpression);
+              if (concatenation != null
+                  && CiLanguageUtil.isLanguageLineKeyElement(concatenation)) {
+                return new PsiReference[]{
+                    new MyPolyVariantReference(literalExpression, CiMetric.LANGUAGE_RESOLVE,
+                        CiLanguageUtil::findMatchingTranslationElements)
+                };
+              }
+            }
+            return PsiReference.EMPTY_ARRAY;
+          }
+        });
   }
 
 }
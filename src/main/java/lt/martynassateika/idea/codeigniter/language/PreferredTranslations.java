@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.language;
+
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.FileBasedIndex;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectService;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps a map from language keys to their translations in the preferred idiom.
+ *
+ * The modification count only compares the preferred idiom and the stamp of the language index with
+ * the ones seen last, so it is cheap to check. The map itself is rebuilt lazily on the first lookup
+ * after a change, and only the language files which were modified since then are read again.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+@Service
+public final class PreferredTranslations implements ModificationTracker {
+
+  @NotNull
+  private final Project project;
+
+  @NotNull
+  private final Map<VirtualFile, FileTranslations> translationsByFile = new ConcurrentHashMap<>();
+
+  @NotNull
+  private final AtomicReference<State> state = new AtomicReference<>(new State("", -1, 0));
+
+  @NotNull
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(
+      new Snapshot(-1, Collections.emptyMap()));
+
+  public PreferredTranslations(@NotNull Project project) {
+    this.project = project;
+  }
+
+  public static PreferredTranslations getInstance(@NotNull Project project) {
+    return project.getService(PreferredTranslations.class);
+  }
+
+  /**
+   * @param key language key
+   * @return translation of the key in the preferred idiom, or {@code null} if there is none
+   */
+  @Nullable
+  public String getText(@NotNull String key) {
+    State currentState = getState();
+    Snapshot current = snapshot.get();
+    if (current.modificationCount != currentState.modificationCount) {
+      Snapshot updated = new Snapshot(currentState.modificationCount,
+          collectTexts(currentState.idiom));
+      // Leaves a snapshot published by another thread in the meantime alone
+      snapshot.compareAndSet(current, updated);
+      current = updated;
+    }
+    return current.texts.get(key);
+  }
+
+  /**
+   * Changes whenever the preferred idiom or any of its translations change.
+   */
+  @Override
+  public long getModificationCount() {
+    return getState().modificationCount;
+  }
+
+  /**
+   * @return the current state, with the modification count incremented exactly once per change of
+   * the preferred idiom or of the language index
+   */
+  @NotNull
+  private State getState() {
+    String idiom = CodeIgniterProjectSettings.getInstance(project).getPreferredIdiom();
+    long indexStamp = FileBasedIndex.getInstance()
+        .getIndexModificationStamp(LanguageFileIndex.KEY, project);
+    while (true) {
+      State current = state.get();
+      if (current.indexStamp == indexStamp && current.idiom.equals(idiom)) {
+        return current;
+      }
+      State updated = new State(idiom, indexStamp, current.modificationCount + 1);
+      if (state.compareAndSet(current, updated)) {
+        return updated;
+      }
+    }
+  }
+
+  /**
+   * @param idiom preferred idiom
+   * @return translations from all language files of the idiom, mapped by language key
+   */
+  @NotNull
+  private Map<String, String> collectTexts(@NotNull String idiom) {
+    Map<String, String> texts = new HashMap<>();
+    Set<VirtualFile> languageFiles = new HashSet<>();
+    for (VirtualFile directory : CodeIgniterProjectService.getInstance(project)
+        .getDirectories(CodeIgniterProjectService.LANGUAGE)) {
+      VirtualFile idiomDirectory = directory.findChild(idiom);
+      if (idiomDirectory != null && idiomDirectory.isDirectory()) {
+        // Language files may be kept in subdirectories, e.g. 'english/admin/users_lang.php'
+        VfsUtilCore.iterateChildrenRecursively(idiomDirectory, null, file -> {
+          if (!file.isDirectory() && CiLanguageUtil.isLanguageFile(file)) {
+            languageFiles.add(file);
+            getTranslations(file).texts.forEach(texts::putIfAbsent);
+          }
+          return true;
+        });
+      }
+    }
+    translationsByFile.keySet().retainAll(languageFiles);
+    return texts;
+  }
+
+  /**
+   * @param file a language file
+   * @return translations defined in the file, read from the index only if it has changed
+   */
+  @NotNull
+  private FileTranslations getTranslations(@NotNull VirtualFile file) {
+    long stamp = getModificationStamp(file);
+    FileTranslations translations = translationsByFile.get(file);
+    if (translations == null || translations.stamp != stamp) {
+      Map<String, String> texts = new HashMap<>();
+      FileBasedIndex.getInstance().getFileData(LanguageFileIndex.KEY, file, project)
+          .forEach((key, translation) -> texts.put(key, translation.getText()));
+      translations = new FileTranslations(stamp, texts);
+      translationsByFile.put(file, translations);
+    }
+    return translations;
+  }
+
+  /**
+   * @param file a file
+   * @return modification stamp of the file, taking unsaved changes into account
+   */
+  private static long getModificationStamp(@NotNull VirtualFile file) {
+    Document document = FileDocumentManager.getInstance().getCachedDocument(file);
+    return document != null ? document.getModificationStamp() : file.getModificationStamp();
+  }
+
+  private static class FileTranslations {
+
+    private final long stamp;
+
+    @NotNull
+    private final Map<String, String> texts;
+
+    FileTranslations(long stamp, @NotNull Map<String, String> texts) {
+      this.stamp = stamp;
+      this.texts = texts;
+    }
+
+  }
+
+  private static class State {
+
+    @NotNull
+    private final String idiom;
+
+    private final long indexStamp;
+
+    private final long modificationCount;
+
+    State(@NotNull String idiom, long indexStamp, long modificationCount) {
+      this.idiom = idiom;
+      this.indexStamp = indexStamp;
+      this.modificationCount = modificationCount;
+    }
+
+  }
+
+  private static class Snapshot {
+
+    private final long modificationCount;
+
+    @NotNull
+    private final Map<String, String> texts;
+
+    Snapshot(long modificationCount, @NotNull Map<String, String> texts) {
+      this.modificationCount = modificationCount;
+      this.texts = texts;
+    }
+
+  }
+
+}
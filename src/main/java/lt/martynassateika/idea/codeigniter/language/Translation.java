@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.language;
+
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A single language line, as stored in {@link LanguageFileIndex}.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public final class Translation {
+
+  private final int offset;
+
+  @NotNull
+  private final String text;
+
+  @NotNull
+  private final String idiom;
+
+  @NotNull
+  private final String fileName;
+
+  Translation(int offset, @NotNull String text, @NotNull String idiom, @NotNull String fileName) {
+    this.offset = offset;
+    this.text = text;
+    this.idiom = idiom;
+    this.fileName = fileName;
+  }
+
+  /**
+   * @return offset of the array index (e.g. {@code 'foo'} in {@code $lang['foo']}) in its file
+   */
+  public int getOffset() {
+    return offset;
+  }
+
+  /**
+   * @return the translated text, unquoted
+   */
+  @NotNull
+  public String getText() {
+    return text;
+  }
+
+  /**
+   * @return name of the directory holding the language file, e.g. 'english'
+   */
+  @NotNull
+  public String getIdiom() {
+    return idiom;
+  }
+
+  /**
+   * @return name of the language file without the extension, e.g. 'users_lang'
+   */
+  @NotNull
+  public String getFileName() {
+    return fileName;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Translation that = (Translation) o;
+    return offset == that.offset
+        && text.equals(that.text)
+        && idiom.equals(that.idiom)
+        && fileName.equals(that.fileName);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(offset, text, idiom, fileName);
+  }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.language;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.jetbrains.php.lang.psi.elements.ArrayIndex;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import lt.martynassateika.idea.codeigniter.usage.UsageKind;
+import lt.martynassateika.idea.codeigniter.usage.UsageReferencesSearcher;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Finds 'lang' calls referring to a translation, i.e. an array index in a language file.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class TranslationReferencesSearcher extends UsageReferencesSearcher {
+
+  public TranslationReferencesSearcher() {
+    super(UsageKind.LANGUAGE);
+  }
+
+  @NotNull
+  @Override
+  protected Collection<String> getNames(@NotNull PsiElement target) {
+    if (target instanceof ArrayIndex) {
+      VirtualFile file = target.getContainingFile().getVirtualFile();
+      if (file != null && CiLanguageUtil.isLanguageFile(file)) {
+        int offset = target.getTextRange().getStartOffset();
+        List<String> keys = new ArrayList<>();
+        FileBasedIndex.getInstance()
+            .getFileData(LanguageFileIndex.KEY, file, target.getProject())
+            .forEach((key, translation) -> {
+              if (translation.getOffset() == offset) {
+                keys.add(key);
+              }
+            });
+        return keys;
+      }
+    }
+    return Collections.emptyList();
+  }
+
+}
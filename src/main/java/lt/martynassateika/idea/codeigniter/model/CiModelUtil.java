@@ -17,19 +17,25 @@
 package lt.martynassateika.idea.codeigniter.model;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiFileSystemItem;
 import com.intellij.psi.PsiManager;
-import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import lt.martynassateika.idea.codeigniter.CiFileUtil;
 import lt.martynassateika.idea.codeigniter.PhpExtensionUtil;
 import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Utility methods related to the CI Models.
@@ -39,42 +45,77 @@ import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
  */
 public class CiModelUtil {
 
+  private static final String MODEL_DIRECTORY_NAME = "models";
+
+  private static final Key<CachedValue<Map<VirtualFile, ModelInfo>>> MODELS_KEY = Key
+      .create("codeigniter.models");
+
   /**
-   * Returns a list of model files whose relative path from a model directory equals the supplied
-   * relative path.
+   * Returns a list of model files whose relative path from a model directory equals the relative
+   * path in the supplied string literal.
    *
-   * @param relativePath relative path to a model file
-   * @param project current project
+   * @param literalExpression string literal containing a relative path to a model file
    * @return list of all matching model files
    */
-  static List<PsiFile> findModelFiles(String relativePath, Project project) {
-    PsiManager psiManager = PsiManager.getInstance(project);
-
-    // If no extension is specified, it's a PHP file
-    relativePath = PhpExtensionUtil.addIfMissing(relativePath);
-
+  static List<PsiFile> findModelFiles(StringLiteralExpression literalExpression) {
+    PsiManager psiManager = literalExpression.getManager();
     List<PsiFile> modelFiles = new ArrayList<>();
-    for (PsiFileSystemItem fileSystemItem : getModelDirectories(project)) {
-      VirtualFile modelDirectory = fileSystemItem.getVirtualFile();
-      VirtualFile modelFile = modelDirectory.findFileByRelativePath(relativePath);
-      if (modelFile != null && !modelFile.isDirectory()) {
-        PsiFile psiFile = psiManager.findFile(modelFile);
-        if (psiFile != null) {
-          modelFiles.add(psiFile);
-        }
+    for (VirtualFile modelFile : findModels(literalExpression).keySet()) {
+      PsiFile psiFile = psiManager.findFile(modelFile);
+      if (psiFile != null) {
+        modelFiles.add(psiFile);
       }
     }
     return modelFiles;
   }
 
   /**
+   * @param literalExpression string literal containing a relative path to a model file
+   * @return models matching the relative path, mapped by the file they are defined in
+   */
+  public static Map<VirtualFile, ModelInfo> findModels(StringLiteralExpression literalExpression) {
+    return MyPsiUtil.getCachedIndexValue(literalExpression, MODELS_KEY, ModelFileIndex.KEY,
+        literal -> findModels(StringUtil.unquoteString(literal.getText()), literal.getProject()));
+  }
+
+  /**
+   * @param relativePath relative path to a model file, as passed to {@code load->model()}
    * @param project current project
-   * @return all directories called 'models' in the project
+   * @return models matching the relative path, mapped by the file they are defined in
+   */
+  public static Map<VirtualFile, ModelInfo> findModels(String relativePath, Project project) {
+    Map<VirtualFile, ModelInfo> models = new LinkedHashMap<>();
+    FileBasedIndex.getInstance().processValues(ModelFileIndex.KEY, getModelName(relativePath),
+        null, (file, modelInfo) -> {
+          models.put(file, modelInfo);
+          return true;
+        }, GlobalSearchScope.allScope(project));
+    return models;
+  }
+
+  /**
+   * Returns the name under which a model is stored in {@link ModelFileIndex}.
+   *
+   * CI capitalizes the first letter of the model file name when loading it, so 'blog_model' and
+   * 'Blog_model' refer to the same 'Blog_model.php' file. Letter case in directory names matters.
+   *
+   * @param relativePath relative path to a model file, with or without the PHP extension
+   * @return the model name
+   */
+  @NotNull
+  public static String getModelName(@NotNull String relativePath) {
+    String path = PhpExtensionUtil.removeIfPresent(relativePath);
+    int lastSlash = path.lastIndexOf('/');
+    return path.substring(0, lastSlash + 1) + path.substring(lastSlash + 1).toLowerCase();
+  }
+
+  /**
+   * @param file a file or directory
+   * @return the closest ancestor directory called 'models', or {@code null} if there is none
    */
-  static List<PsiFileSystemItem> getModelDirectories(Project project) {
-    GlobalSearchScope scope = GlobalSearchScope.allScope(project);
-    PsiFileSystemItem[] items = FilenameIndex.getFilesByName(project, "models", scope, true);
-    return Arrays.stream(items).filter(PsiFileSystemItem::isDirectory).collect(Collectors.toList());
+  @Nullable
+  static VirtualFile getClosestModelDirectory(@NotNull VirtualFile file) {
+    return CiFileUtil.findClosestAncestor(file, MODEL_DIRECTORY_NAME);
   }
 
   /**
@@ -82,7 +123,7 @@ public class CiModelUtil {
    * @param argIndex method parameter index (0-based)
    * @return {@code true} if {@code element} is an argument of a {@code load->model()} call
    */
-  static boolean isArgumentOfLoadModel(PsiElement element, int argIndex) {
+  public static boolean isArgumentOfLoadModel(PsiElement element, int argIndex) {
     return MyPsiUtil.isArgumentOfMethod(element, "load", "model", argIndex);
   }
 
@@ -19,29 +19,17 @@ package lt.martynassateika.idea.codeigniter.model;
 import com.intellij.codeInsight.completion.CompletionParameters;
 import com.intellij.codeInsight.completion.CompletionProvider;
 import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.text.StringUtil;
-import com.intellij.openapi.vfs.VfsUtil;
-import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.openapi.vfs.VirtualFileVisitor;
-import com.intellij.patterns.PlatformPatterns;
 import com.intellij.patterns.PsiElementPattern;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFileSystemItem;
 import com.intellij.psi.impl.source.tree.LeafPsiElement;
 import com.intellij.util.ProcessingContext;
-import com.jetbrains.php.lang.PhpFileType;
-import com.jetbrains.php.lang.PhpLanguage;
-import com.jetbrains.php.lang.psi.elements.FunctionReference;
-import com.jetbrains.php.lang.psi.elements.ParameterList;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
-import java.util.List;
-import javax.swing.Icon;
 
 import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
-import lt.martynassateika.idea.codeigniter.PhpExtensionUtil;
-import lt.martynassateika.idea.codeigniter.compat.VfsUtilCompat;
-import lt.martynassateika.idea.codeigniter.contributor.BasicFileLookupElement;
+import lt.martynassateika.idea.codeigniter.contributor.MyCompletionUtil;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiPatterns;
 import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
 import org.jetbrains.annotations.NotNull;
 
@@ -61,29 +49,11 @@ public class ModelCompletionProvider extends CompletionProvider<CompletionParame
       Project project = originalPosition.getProject();
       if (CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
         if (isModelNameElement(originalPosition)) {
-          List<PsiFileSystemItem> modelDirectories = CiModelUtil.getModelDirectories(project);
-          for (PsiFileSystemItem modelDirectory : modelDirectories) {
-            VirtualFile directoryVirtualFile = modelDirectory.getVirtualFile();
-            VirtualFile applicationDirectory = directoryVirtualFile.getParent();
-            VfsUtil
-                .visitChildrenRecursively(directoryVirtualFile, new VirtualFileVisitor<Object>() {
-                  @Override
-                  public boolean visitFile(@NotNull VirtualFile file) {
-                    if (file.getFileType() == PhpFileType.INSTANCE) {
-                      String relativePath = VfsUtilCompat
-                          .findRelativePath(directoryVirtualFile, file, '/');
-                      if (StringUtil.isNotEmpty(relativePath)) {
-                        Icon icon = file.getFileType().getIcon();
-                        resultSet.addElement(new BasicFileLookupElement(
-                            PhpExtensionUtil.removeIfPresent(relativePath.toLowerCase()),
-                            applicationDirectory,
-                            icon
-                        ));
-                      }
-                    }
-                    return true;
-                  }
-                });
+          for (String modelName : MyCompletionUtil.getMatchingKeys(ModelFileIndex.KEY,
+              resultSet.getPrefixMatcher(), project)) {
+            ProgressManager.checkCanceled();
+            MyCompletionUtil.addFileLookupElements(resultSet, ModelFileIndex.KEY, modelName,
+                modelName, project);
           }
         }
       }
@@ -106,12 +76,7 @@ public class ModelCompletionProvider extends CompletionProvider<CompletionParame
   @NotNull
   public static PsiElementPattern.Capture<LeafPsiElement> getPlace() {
     // model('foo');
-    return PlatformPatterns
-        .psiElement(LeafPsiElement.class)
-        .withParent(StringLiteralExpression.class)
-        .withSuperParent(2, ParameterList.class)
-        .withSuperParent(3, FunctionReference.class)
-        .withLanguage(PhpLanguage.INSTANCE);
+    return MyPsiPatterns.completionInStringArgumentOf("model");
   }
 
 }
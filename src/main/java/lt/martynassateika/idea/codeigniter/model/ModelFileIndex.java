@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.model;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex.InputFilter;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import com.jetbrains.php.lang.PhpFileType;
+import com.jetbrains.php.lang.psi.elements.Method;
+import com.jetbrains.php.lang.psi.elements.PhpClass;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Index of CI model files, keyed by the name passed to {@code load->model()}.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class ModelFileIndex extends FileBasedIndexExtension<String, ModelInfo> {
+
+  @NonNls
+  static final ID<String, ModelInfo> KEY = ID.create("codeigniter.model.file.index");
+
+  private final MyDataIndexer myDataIndexer = new MyDataIndexer();
+
+  @NotNull
+  @Override
+  public ID<String, ModelInfo> getName() {
+    return KEY;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, ModelInfo, FileContent> getIndexer() {
+    return myDataIndexer;
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<ModelInfo> getValueExternalizer() {
+    return ModelInfoExternalizer.INSTANCE;
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  @NotNull
+  @Override
+  public InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE) {
+      @Override
+      public boolean acceptInput(@NotNull VirtualFile file) {
+        return CiModelUtil.getClosestModelDirectory(file) != null;
+      }
+    };
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  private static class MyDataIndexer implements DataIndexer<String, ModelInfo, FileContent> {
+
+    @NotNull
+    @Override
+    public Map<String, ModelInfo> map(@NotNull FileContent fileContent) {
+      Project project = fileContent.getProject();
+      long start = CiMetrics.start(project);
+      try {
+        return mapFile(fileContent);
+      } finally {
+        CiMetrics.stop(project, CiMetric.MODEL_INDEX, start);
+      }
+    }
+
+    @NotNull
+    private Map<String, ModelInfo> mapFile(@NotNull FileContent fileContent) {
+      VirtualFile file = fileContent.getFile();
+      VirtualFile modelDirectory = CiModelUtil.getClosestModelDirectory(file);
+      if (modelDirectory == null) {
+        return Collections.emptyMap();
+      }
+      ModelInfo modelInfo = createModelInfo(fileContent.getPsiFile());
+      Map<String, ModelInfo> map = new HashMap<>();
+      while (modelDirectory != null) {
+        String relativePath = VfsUtilCore.getRelativePath(file, modelDirectory, '/');
+        if (relativePath != null) {
+          map.put(CiModelUtil.getModelName(relativePath), modelInfo);
+        }
+        modelDirectory = CiModelUtil.getClosestModelDirectory(modelDirectory);
+      }
+      return map;
+    }
+
+    /**
+     * @param psiFile a model file
+     * @return description of the first class declared in the file
+     */
+    @NotNull
+    private static ModelInfo createModelInfo(PsiFile psiFile) {
+      PhpClass phpClass = PsiTreeUtil.findChildOfType(psiFile, PhpClass.class);
+      if (phpClass == null) {
+        return new ModelInfo("", Collections.emptyList());
+      }
+      List<String> methodNames = new ArrayList<>();
+      for (Method method : phpClass.getOwnMethods()) {
+        if (method.getAccess().isPublic() && !method.getName().startsWith("__")) {
+          methodNames.add(method.getName());
+        }
+      }
+      return new ModelInfo(phpClass.getFQN(), methodNames);
+    }
+  }
+
+  /**
+   * Stores the class name and the method names of a {@link ModelInfo}.
+   */
+  static class ModelInfoExternalizer implements DataExternalizer<ModelInfo> {
+
+    static final ModelInfoExternalizer INSTANCE = new ModelInfoExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out, ModelInfo value) throws IOException {
+      IOUtil.writeUTF(out, value.getClassFqn());
+      DataInputOutputUtil.writeINT(out, value.getMethodNames().size());
+      for (String methodName : value.getMethodNames()) {
+        IOUtil.writeUTF(out, methodName);
+      }
+    }
+
+    @Override
+    public ModelInfo read(@NotNull DataInput in) throws IOException {
+      String classFqn = IOUtil.readUTF(in);
+      int size = DataInputOutputUtil.readINT(in);
+      List<String> methodNames = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        methodNames.add(IOUtil.readUTF(in));
+      }
+      return new ModelInfo(classFqn, methodNames);
+    }
+
+  }
+
+}
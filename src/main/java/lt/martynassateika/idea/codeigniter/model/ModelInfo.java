@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.model;
+
+import java.util.List;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A model class, as stored in {@link ModelFileIndex}.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public final class ModelInfo {
+
+  @NotNull
+  private final String classFqn;
+
+  @NotNull
+  private final List<String> methodNames;
+
+  ModelInfo(@NotNull String classFqn, @NotNull List<String> methodNames) {
+    this.classFqn = classFqn;
+    this.methodNames = methodNames;
+  }
+
+  /**
+   * @return fully qualified name of the model class, or an empty string if the file declares none
+   */
+  @NotNull
+  public String getClassFqn() {
+    return classFqn;
+  }
+
+  /**
+   * @return names of the public methods declared by the model class
+   */
+  @NotNull
+  public List<String> getMethodNames() {
+    return methodNames;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ModelInfo that = (ModelInfo) o;
+    return classFqn.equals(that.classFqn) && methodNames.equals(that.methodNames);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(classFqn, methodNames);
+  }
+
+}
@@ -17,8 +17,6 @@
 package lt.martynassateika.idea.codeigniter.model;
 
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.text.StringUtil;
-import com.intellij.patterns.PlatformPatterns;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceContributor;
@@ -27,7 +25,9 @@ import com.intellij.psi.PsiReferenceRegistrar;
 import com.intellij.util.ProcessingContext;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
 import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
-import lt.martynassateika.idea.codeigniter.psi.MyPsiReference;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.psi.MyPolyVariantReference;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiPatterns;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -40,7 +40,7 @@ public class ModelReferenceContributor extends PsiReferenceContributor {
 
   @Override
   public void registerReferenceProviders(@NotNull PsiReferenceRegistrar registrar) {
-    registrar.registerReferenceProvider(PlatformPatterns.psiElement(),
+    registrar.registerReferenceProvider(MyPsiPatterns.stringArgumentOf("model"),
         new PsiReferenceProvider() {
           @NotNull
           @Override
@@ -51,11 +51,10 @@ public class ModelReferenceContributor extends PsiReferenceContributor {
               if (psiElement instanceof StringLiteralExpression) {
                 if (CiModelUtil.isArgumentOfLoadModel(psiElement, 0)) {
                   StringLiteralExpression stringLiteralExpression = (StringLiteralExpression) psiElement;
-                  String relativePath = StringUtil.unquoteString(stringLiteralExpression.getText());
-                  return CiModelUtil.findModelFiles(relativePath, project)
-                      .stream()
-                      .map(file -> new MyPsiReference(file, stringLiteralExpression))
-                      .toArray(PsiReference[]::new);
+                  return new PsiReference[]{
+                      new MyPolyVariantReference(stringLiteralExpression, CiMetric.MODEL_RESOLVE,
+                          CiModelUtil::findModelFiles)
+                  };
                 }
               }
             }
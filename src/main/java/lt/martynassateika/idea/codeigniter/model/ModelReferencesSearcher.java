@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.model;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.indexing.FileBasedIndex;
+import java.util.Collection;
+import java.util.Collections;
+import lt.martynassateika.idea.codeigniter.usage.UsageKind;
+import lt.martynassateika.idea.codeigniter.usage.UsageReferencesSearcher;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Finds 'load->model' calls referring to a model file.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class ModelReferencesSearcher extends UsageReferencesSearcher {
+
+  public ModelReferencesSearcher() {
+    super(UsageKind.MODEL);
+  }
+
+  @NotNull
+  @Override
+  protected Collection<String> getNames(@NotNull PsiElement target) {
+    if (target instanceof PsiFile) {
+      VirtualFile file = ((PsiFile) target).getVirtualFile();
+      if (file != null && CiModelUtil.getClosestModelDirectory(file) != null) {
+        return FileBasedIndex.getInstance()
+            .getFileData(ModelFileIndex.KEY, file, target.getProject()).keySet();
+      }
+    }
+    return Collections.emptyList();
+  }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.psi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Partially known value of a string expression, e.g. 'admin/', an unknown part and '/list' for
+ * {@code 'admin/' . $section . '/list'}.
+ *
+ * The value consists of known fragments separated by unknown parts. An exact value has a single
+ * fragment and no unknown parts.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public final class EvaluatedString {
+
+  /**
+   * A value nothing is known about.
+   */
+  public static final EvaluatedString UNKNOWN = new EvaluatedString(List.of("", ""));
+
+  /**
+   * Known fragments, with an unknown part between each two of them.
+   */
+  @NotNull
+  private final List<String> fragments;
+
+  private EvaluatedString(@NotNull List<String> fragments) {
+    this.fragments = fragments;
+  }
+
+  /**
+   * @param value a known value
+   * @return the exact value
+   */
+  @NotNull
+  public static EvaluatedString exact(@NotNull String value) {
+    return new EvaluatedString(Collections.singletonList(value));
+  }
+
+  /**
+   * @param other value to append
+   * @return concatenation of this and the other value
+   */
+  @NotNull
+  EvaluatedString concat(@NotNull EvaluatedString other) {
+    List<String> result = new ArrayList<>(fragments.size() + other.fragments.size() - 1);
+    result.addAll(fragments.subList(0, fragments.size() - 1));
+    result.add(fragments.get(fragments.size() - 1) + other.fragments.get(0));
+    result.addAll(other.fragments.subList(1, other.fragments.size()));
+    // Two unknown parts in a row are the same as one
+    for (int i = result.size() - 2; i > 0; i--) {
+      if (result.get(i).isEmpty()) {
+        result.remove(i);
+      }
+    }
+    return new EvaluatedString(result);
+  }
+
+  /**
+   * @return {@code true} if the whole value is known
+   */
+  public boolean isExact() {
+    return fragments.size() == 1;
+  }
+
+  /**
+   * @return {@code true} if no part of the value is known
+   */
+  public boolean isUnknown() {
+    return !isExact() && getLength() == 0;
+  }
+
+  /**
+   * @return the value if it is exact, else {@code null}
+   */
+  @Nullable
+  public String getValue() {
+    return isExact() ? fragments.get(0) : null;
+  }
+
+  /**
+   * @return known start of the value, or the whole value if it is exact
+   */
+  @NotNull
+  public String getPrefix() {
+    return fragments.get(0);
+  }
+
+  /**
+   * @return total length of the known fragments
+   */
+  int getLength() {
+    int length = 0;
+    for (String fragment : fragments) {
+      length += fragment.length();
+    }
+    return length;
+  }
+
+  /**
+   * @param suffix a suffix
+   * @return this value with the suffix removed from its end, if it is known to end with it
+   */
+  @NotNull
+  public EvaluatedString removeSuffix(@NotNull String suffix) {
+    int last = fragments.size() - 1;
+    String lastFragment = fragments.get(last);
+    if (!lastFragment.endsWith(suffix)) {
+      return this;
+    }
+    List<String> result = new ArrayList<>(fragments);
+    result.set(last, lastFragment.substring(0, lastFragment.length() - suffix.length()));
+    return new EvaluatedString(result);
+  }
+
+  /**
+   * @param candidate a string
+   * @return {@code true} if the candidate could be the value of the evaluated expression
+   */
+  public boolean matches(@NotNull String candidate) {
+    if (isExact()) {
+      return fragments.get(0).equals(candidate);
+    }
+    String first = fragments.get(0);
+    String last = fragments.get(fragments.size() - 1);
+    if (candidate.length() < first.length() + last.length()
+        || !candidate.startsWith(first) || !candidate.endsWith(last)) {
+      return false;
+    }
+    int from = first.length();
+    int to = candidate.length() - last.length();
+    for (String fragment : fragments.subList(1, fragments.size() - 1)) {
+      int index = candidate.indexOf(fragment, from);
+      if (index < 0 || index + fragment.length() > to) {
+        return false;
+      }
+      from = index + fragment.length();
+    }
+    return true;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return fragments.equals(((EvaluatedString) o).fragments);
+  }
+
+  @Override
+  public int hashCode() {
+    return fragments.hashCode();
+  }
+
+  /**
+   * @return the value with '*' standing for the unknown parts
+   */
+  @Override
+  public String toString() {
+    return String.join("*", fragments);
+  }
+
+}
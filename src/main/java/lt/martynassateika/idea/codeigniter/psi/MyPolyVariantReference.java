@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.psi;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.ElementManipulators;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementResolveResult;
+import com.intellij.psi.PsiPolyVariantReferenceBase;
+import com.intellij.psi.ResolveResult;
+import com.intellij.psi.impl.source.resolve.ResolveCache;
+import com.intellij.psi.impl.source.resolve.ResolveCache.PolyVariantResolver;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import java.util.Collection;
+import java.util.function.Function;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Soft reference from a string literal to any number of targets.
+ *
+ * Targets are only looked up once the reference is resolved, so creating references for
+ * highlighting is cheap. Resolve results are cached by {@link ResolveCache}.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class MyPolyVariantReference extends PsiPolyVariantReferenceBase<StringLiteralExpression> {
+
+  private static final PolyVariantResolver<MyPolyVariantReference> RESOLVER =
+      (reference, incompleteCode) -> {
+        Project project = reference.getElement().getProject();
+        long start = CiMetrics.start(project);
+        try {
+          return PsiElementResolveResult
+              .createResults(reference.targetFinder.apply(reference.getElement()));
+        } finally {
+          CiMetrics.stop(project, reference.metric, start);
+        }
+      };
+
+  @NotNull
+  private final CiMetric metric;
+
+  @NotNull
+  private final Function<StringLiteralExpression, Collection<? extends PsiElement>> targetFinder;
+
+  /**
+   * @param literalExpression the referencing string literal
+   * @param metric operation under which resolve times are recorded
+   * @param targetFinder finds the targets of the string literal
+   */
+  public MyPolyVariantReference(@NotNull StringLiteralExpression literalExpression,
+      @NotNull CiMetric metric,
+      @NotNull Function<StringLiteralExpression, Collection<? extends PsiElement>> targetFinder) {
+    super(literalExpression, ElementManipulators.getValueTextRange(literalExpression), true);
+    this.metric = metric;
+    this.targetFinder = targetFinder;
+  }
+
+  @NotNull
+  @Override
+  public ResolveResult[] multiResolve(boolean incompleteCode) {
+    CiMetrics.lookup(myElement.getProject(), metric);
+    return ResolveCache.getInstance(myElement.getProject())
+        .resolveWithCaching(this, RESOLVER, false, incompleteCode);
+  }
+
+  @Override
+  public PsiElement handleElementRename(@NotNull String newElementName) {
+    // Renaming the target must not rewrite the literal, as it holds a path or a key, not a name
+    return myElement;
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.psi;
+
+import com.intellij.patterns.ElementPattern;
+import com.intellij.patterns.PatternCondition;
+import com.intellij.patterns.PlatformPatterns;
+import com.intellij.patterns.PsiElementPattern;
+import com.intellij.patterns.StandardPatterns;
+import com.intellij.psi.impl.source.tree.LeafPsiElement;
+import com.intellij.util.ProcessingContext;
+import com.jetbrains.php.lang.PhpLanguage;
+import com.jetbrains.php.lang.parser.PhpElementTypes;
+import com.jetbrains.php.lang.psi.elements.ArrayCreationExpression;
+import com.jetbrains.php.lang.psi.elements.BinaryExpression;
+import com.jetbrains.php.lang.psi.elements.FunctionReference;
+import com.jetbrains.php.lang.psi.elements.ParameterList;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Element patterns for CI call sites.
+ *
+ * These only narrow down candidates cheaply; the exact argument position and receiver are still
+ * checked by the {@code Ci*Util} classes.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class MyPsiPatterns {
+
+  /**
+   * Matches {@code 'foo'} in {@code bar('foo')} or {@code $this->x->bar('foo')}, where 'bar' is
+   * one of the supplied names.
+   *
+   * @param names function or method names
+   * @return pattern matching string literal arguments of the named calls
+   */
+  @NotNull
+  public static PsiElementPattern.Capture<StringLiteralExpression> stringArgumentOf(
+      @NotNull String... names) {
+    return PlatformPatterns
+        .psiElement(StringLiteralExpression.class)
+        .withParent(ParameterList.class)
+        .withSuperParent(2, PlatformPatterns
+            .psiElement(FunctionReference.class)
+            .with(nameIn(names)));
+  }
+
+  /**
+   * Matches {@code 'foo'} both in {@code bar('foo')} and in {@code bar(array('foo', 'baz'))}.
+   *
+   * @param names function or method names
+   * @return pattern matching string literal arguments of the named calls, or string literal
+   * elements of array arguments
+   */
+  @NotNull
+  public static ElementPattern<StringLiteralExpression> stringOrArrayElementArgumentOf(
+      @NotNull String... names) {
+    PsiElementPattern.Capture<StringLiteralExpression> arrayElement = PlatformPatterns
+        .psiElement(StringLiteralExpression.class)
+        .withParent(PlatformPatterns.psiElement(PhpElementTypes.ARRAY_VALUE))
+        .withSuperParent(2, ArrayCreationExpression.class)
+        .withSuperParent(3, ParameterList.class)
+        .withSuperParent(4, PlatformPatterns
+            .psiElement(FunctionReference.class)
+            .with(nameIn(names)));
+    return StandardPatterns.or(stringArgumentOf(names), arrayElement);
+  }
+
+  /**
+   * Matches {@code 'foo'} in {@code 'foo' . $bar}. Whether the concatenation is an argument of a
+   * particular call is left to the caller.
+   *
+   * @return pattern matching string literals which are operands of a binary expression
+   */
+  @NotNull
+  public static PsiElementPattern.Capture<StringLiteralExpression> stringInConcatenation() {
+    return PlatformPatterns
+        .psiElement(StringLiteralExpression.class)
+        .withParent(BinaryExpression.class);
+  }
+
+  /**
+   * @param names function or method names
+   * @return pattern matching the completion position inside string literal arguments of the named
+   * calls
+   */
+  @NotNull
+  public static PsiElementPattern.Capture<LeafPsiElement> completionInStringArgumentOf(
+      @NotNull String... names) {
+    return completionIn(stringArgumentOf(names));
+  }
+
+  /**
+   * @param stringPattern pattern matching string literals
+   * @return pattern matching the completion position inside the matched string literals
+   */
+  @NotNull
+  public static PsiElementPattern.Capture<LeafPsiElement> completionIn(
+      @NotNull ElementPattern<StringLiteralExpression> stringPattern) {
+    return PlatformPatterns
+        .psiElement(LeafPsiElement.class)
+        .withParent(stringPattern)
+        .withLanguage(PhpLanguage.INSTANCE);
+  }
+
+  @NotNull
+  private static PatternCondition<FunctionReference> nameIn(@NotNull String... names) {
+    Set<String> nameSet = Set.of(names);
+    return new PatternCondition<FunctionReference>("nameIn") {
+      @Override
+      public boolean accepts(@NotNull FunctionReference reference, ProcessingContext context) {
+        return nameSet.contains(reference.getName());
+      }
+    };
+  }
+
+}
@@ -16,7 +16,20 @@
 
 package lt.martynassateika.idea.codeigniter.psi;
 
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.ID;
 import com.jetbrains.php.lang.psi.elements.ArrayAccessExpression;
 import com.jetbrains.php.lang.psi.elements.ArrayIndex;
 import com.jetbrains.php.lang.psi.elements.AssignmentExpression;
@@ -26,6 +39,10 @@ import com.jetbrains.php.lang.psi.elements.MethodReference;
 import com.jetbrains.php.lang.psi.elements.ParameterList;
 import com.jetbrains.php.lang.psi.elements.PhpPsiElement;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import com.jetbrains.php.lang.psi.elements.Variable;
+import java.util.function.Function;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -110,22 +127,105 @@ public class MyPsiUtil {
   }
 
   /**
-   * @param expression an assignment expression
-   * @param text expected array index
-   * @return {@code true} if the supplied expression is an array access expression with a string
-   * literal index
+   * Processes all assignments of the form {@code $arrayName['key'] = value} in a file.
+   *
+   * @param file a PHP file
+   * @param arrayName name of the array variable, without the '$'
+   * @param consumer receives the unquoted key, the array index and the assigned value
    */
-  public static boolean isArrayAccessWithStringIndex(AssignmentExpression expression, String text) {
-    PhpPsiElement variable = expression.getVariable();
-    if (variable instanceof ArrayAccessExpression) {
-      ArrayAccessExpression arrayAccessExpression = (ArrayAccessExpression) variable;
-      ArrayIndex index = arrayAccessExpression.getIndex();
-      if (index != null && index.getValue() instanceof StringLiteralExpression) {
-        StringLiteralExpression indexValue = (StringLiteralExpression) index.getValue();
-        return indexValue.getContents().equals(text);
+  public static void processArrayAssignments(@NotNull PsiFile file, @NotNull String arrayName,
+      @NotNull ArrayAssignmentConsumer consumer) {
+    for (AssignmentExpression assignment : PsiTreeUtil
+        .findChildrenOfType(file, AssignmentExpression.class)) {
+      PhpPsiElement variable = assignment.getVariable();
+      if (variable instanceof ArrayAccessExpression) {
+        ArrayAccessExpression arrayAccess = (ArrayAccessExpression) variable;
+        PsiElement array = arrayAccess.getFirstChild();
+        if (array instanceof Variable && arrayName.equals(((Variable) array).getName())) {
+          ArrayIndex index = arrayAccess.getIndex();
+          PhpPsiElement value = assignment.getValue();
+          if (index != null && value != null) {
+            PhpPsiElement key = index.getValue();
+            if (key instanceof StringLiteralExpression) {
+              consumer.consume(((StringLiteralExpression) key).getContents(), index, value);
+            }
+          }
+        }
       }
     }
-    return false;
+  }
+
+  /**
+   * Finds an array index whose location is known from a file-based index.
+   *
+   * @param psiManager PSI manager of the current project
+   * @param file file containing the array index
+   * @param offset start offset of the array index in the file
+   * @return the array index, or {@code null} if the file has changed and it is no longer there
+   */
+  @Nullable
+  public static ArrayIndex findArrayIndex(@NotNull PsiManager psiManager,
+      @NotNull VirtualFile file, int offset) {
+    if (!file.isValid()) {
+      return null;
+    }
+    PsiFile psiFile = psiManager.findFile(file);
+    if (psiFile == null) {
+      return null;
+    }
+    return PsiTreeUtil.getParentOfType(psiFile.findElementAt(offset), ArrayIndex.class, false);
+  }
+
+  /**
+   * Computes a value for an expression from an index, caching it on the expression.
+   *
+   * The value is dropped when any PSI in the project changes or when the index is updated, e.g.
+   * after a file is created or changed outside of the IDE. This lets highlighting, inspections and
+   * navigation share a single lookup per expression.
+   *
+   * @param expression an expression, usually a string literal
+   * @param key key under which the value is cached
+   * @param indexId index the value is computed from
+   * @param function computes the value
+   * @param <E> expression type
+   * @param <T> value type
+   * @return the cached or newly computed value
+   */
+  public static <E extends PsiElement, T> T getCachedIndexValue(@NotNull E expression,
+      @NotNull Key<CachedValue<T>> key, @NotNull ID<?, ?> indexId,
+      @NotNull Function<E, T> function) {
+    Project project = expression.getProject();
+    CiMetrics.lookup(project, CiMetric.CACHED_INDEX_VALUE);
+    return CachedValuesManager.getCachedValue(expression, key, () -> {
+      long start = CiMetrics.start(project);
+      try {
+        return Result.create(function.apply(expression), PsiModificationTracker.MODIFICATION_COUNT,
+            getIndexModificationTracker(indexId, project));
+      } finally {
+        CiMetrics.stop(project, CiMetric.CACHED_INDEX_VALUE, start);
+      }
+    });
+  }
+
+  /**
+   * @param indexId a file-based index
+   * @param project current project
+   * @return tracker whose count changes whenever the index is updated
+   */
+  @NotNull
+  public static ModificationTracker getIndexModificationTracker(@NotNull ID<?, ?> indexId,
+      @NotNull Project project) {
+    return () -> FileBasedIndex.getInstance().getIndexModificationStamp(indexId, project);
+  }
+
+  /**
+   * Receives array assignments found by {@link #processArrayAssignments}.
+   */
+  @FunctionalInterface
+  public interface ArrayAssignmentConsumer {
+
+    void consume(@NotNull String key, @NotNull ArrayIndex index, @NotNull PhpPsiElement value);
+
   }
 
 }
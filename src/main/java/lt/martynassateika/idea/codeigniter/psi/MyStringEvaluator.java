@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.psi;
+
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.ID;
+import com.jetbrains.php.lang.lexer.PhpTokenTypes;
+import com.jetbrains.php.lang.psi.elements.BinaryExpression;
+import com.jetbrains.php.lang.psi.elements.ClassConstantReference;
+import com.jetbrains.php.lang.psi.elements.Constant;
+import com.jetbrains.php.lang.psi.elements.ConstantReference;
+import com.jetbrains.php.lang.psi.elements.Field;
+import com.jetbrains.php.lang.psi.elements.ParenthesizedExpression;
+import com.jetbrains.php.lang.psi.elements.PhpPsiElement;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Evaluates string expressions made of literals, concatenations and constants, e.g.
+ * {@code 'admin/' . $section . '/list'} or {@code self::VIEW_DIRECTORY . 'list'}.
+ *
+ * Anything else, such as variables or function calls, becomes an unknown part of the value.
+ * Evaluation gives up after following {@link #MAX_DEPTH} constants or once the value gets longer
+ * than {@link #MAX_LENGTH} characters. Results are cached per expression until PSI changes.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class MyStringEvaluator {
+
+  private static final int MAX_DEPTH = 5;
+
+  private static final int MAX_LENGTH = 255;
+
+  private static final int MAX_MATCHING_KEYS = 100;
+
+  private static final Key<CachedValue<EvaluatedString>> EVALUATED_STRING_KEY = Key
+      .create("codeigniter.evaluated.string");
+
+  /**
+   * @param expression a string expression
+   * @return the (partially) known value of the expression
+   */
+  @NotNull
+  public static EvaluatedString evaluate(@NotNull PsiElement expression) {
+    return CachedValuesManager.getCachedValue(expression, EVALUATED_STRING_KEY,
+        () -> Result.create(evaluate(expression, 0), PsiModificationTracker.MODIFICATION_COUNT));
+  }
+
+  @NotNull
+  private static EvaluatedString evaluate(@Nullable PsiElement element, int depth) {
+    if (element == null || depth > MAX_DEPTH) {
+      return EvaluatedString.UNKNOWN;
+    }
+    if (element instanceof StringLiteralExpression) {
+      StringLiteralExpression literal = (StringLiteralExpression) element;
+      // Interpolated variables are not evaluated
+      if (literal.isHeredoc() || PsiTreeUtil.getChildOfType(literal, PhpPsiElement.class) != null) {
+        return EvaluatedString.UNKNOWN;
+      }
+      return EvaluatedString.exact(literal.getContents());
+    }
+    if (element instanceof ParenthesizedExpression) {
+      return evaluate(((ParenthesizedExpression) element).getArgument(), depth);
+    }
+    if (element instanceof BinaryExpression) {
+      BinaryExpression binaryExpression = (BinaryExpression) element;
+      PsiElement operation = binaryExpression.getOperation();
+      if (operation != null && operation.getNode().getElementType() == PhpTokenTypes.opCONCAT) {
+        EvaluatedString value = evaluate(binaryExpression.getLeftOperand(), depth)
+            .concat(evaluate(binaryExpression.getRightOperand(), depth));
+        return value.getLength() > MAX_LENGTH ? EvaluatedString.UNKNOWN : value;
+      }
+    }
+    if (element instanceof ConstantReference) {
+      PsiElement constant = ((ConstantReference) element).resolve();
+      if (constant instanceof Constant) {
+        return evaluate(((Constant) constant).getValue(), depth + 1);
+      }
+    }
+    if (element instanceof ClassConstantReference) {
+      PsiElement field = ((ClassConstantReference) element).resolve();
+      if (field instanceof Field && ((Field) field).isConstant()) {
+        return evaluate(((Field) field).getDefaultValue(), depth + 1);
+      }
+    }
+    return EvaluatedString.UNKNOWN;
+  }
+
+  /**
+   * Collects the keys of an index which the evaluated string could be equal to.
+   *
+   * At most {@link #MAX_MATCHING_KEYS} keys are returned.
+   *
+   * @param value an evaluated string
+   * @param indexId index to search
+   * @param project current project
+   * @return matching keys
+   */
+  @NotNull
+  public static List<String> findMatchingKeys(@NotNull EvaluatedString value,
+      @NotNull ID<String, ?> indexId, @NotNull Project project) {
+    List<String> keys = new ArrayList<>();
+    String exactValue = value.getValue();
+    if (exactValue != null) {
+      keys.add(exactValue);
+      return keys;
+    }
+    if (value.isUnknown()) {
+      return keys;
+    }
+    String prefix = value.getPrefix();
+    FileBasedIndex.getInstance().processAllKeys(indexId, key -> {
+      ProgressManager.checkCanceled();
+      if (key.startsWith(prefix) && value.matches(key)) {
+        keys.add(key);
+      }
+      return keys.size() < MAX_MATCHING_KEYS;
+    }, project);
+    return keys;
+  }
+
+  /**
+   * Returns the whole concatenation a string literal starts, e.g. {@code 'admin/' . $section} for
+   * 'admin/'.
+   *
+   * @param literal a string literal
+   * @return the outermost concatenation whose first operand is the literal, or {@code null} if
+   * the literal is not the first operand of a concatenation
+   */
+  @Nullable
+  public static BinaryExpression getConcatenation(@NotNull StringLiteralExpression literal) {
+    BinaryExpression concatenation = null;
+    PsiElement element = literal;
+    PsiElement parent = element.getParent();
+    while (parent instanceof BinaryExpression || parent instanceof ParenthesizedExpression) {
+      if (parent instanceof BinaryExpression) {
+        BinaryExpression binaryExpression = (BinaryExpression) parent;
+        PsiElement operation = binaryExpression.getOperation();
+        if (binaryExpression.getLeftOperand() != element || operation == null
+            || operation.getNode().getElementType() != PhpTokenTypes.opCONCAT) {
+          break;
+        }
+        concatenation = binaryExpression;
+      }
+      element = parent;
+      parent = element.getParent();
+    }
+    return concatenation;
+  }
+
+}
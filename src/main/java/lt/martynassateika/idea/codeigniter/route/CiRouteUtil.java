@@ -0,0 +1,372 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.route;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.jetbrains.php.lang.psi.elements.Method;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lt.martynassateika.idea.codeigniter.config.CiConfigUtil;
+import lt.martynassateika.idea.codeigniter.controller.CiControllerUtil;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Utility methods related to CI URI routing.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class CiRouteUtil {
+
+  /**
+   * Names of the URL helper functions taking a URI as their first argument.
+   */
+  static final String[] URL_FUNCTIONS = {"anchor", "base_url", "redirect", "site_url"};
+
+  /**
+   * Reserved route whose target is used for the empty URI.
+   */
+  static final String DEFAULT_CONTROLLER = "default_controller";
+
+  /**
+   * Reserved route whose target is used when no controller method is found.
+   */
+  static final String OVERRIDE_404 = "404_override";
+
+  private static final String ROUTES_FILE_NAME = "routes.php";
+
+  private static final Key<CachedValue<List<Method>>> ACTIONS_KEY = Key
+      .create("codeigniter.url.actions");
+
+  private static final Key<CachedValue<Map<VirtualFile, RouteMatcher>>> ROUTE_MATCHERS_KEY = Key
+      .create("codeigniter.route.matchers");
+
+  /**
+   * @param file a file
+   * @return {@code true} if the file is the CI routes file, 'config/routes.php'
+   */
+  static boolean isRoutesFile(@NotNull VirtualFile file) {
+    return ROUTES_FILE_NAME.equals(file.getName()) && CiConfigUtil.isConfigFile(file);
+  }
+
+  /**
+   * @param element an element
+   * @return {@code true} if the element is the URI argument of a URL helper function
+   */
+  public static boolean isUrlElement(PsiElement element) {
+    for (String functionName : URL_FUNCTIONS) {
+      if (MyPsiUtil.isArgumentOfFunction(element, functionName, 0)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param literalExpression URI argument of a URL helper function
+   * @return controller methods the URI leads to
+   */
+  static List<Method> findActions(StringLiteralExpression literalExpression) {
+    Project project = literalExpression.getProject();
+    VirtualFile file = literalExpression.getContainingFile().getOriginalFile().getVirtualFile();
+    return CachedValuesManager.getCachedValue(literalExpression, ACTIONS_KEY, () -> Result.create(
+        findActions(literalExpression.getContents(), file, project),
+        PsiModificationTracker.MODIFICATION_COUNT,
+        MyPsiUtil.getIndexModificationTracker(RouteFileIndex.KEY, project),
+        MyPsiUtil.getIndexModificationTracker(CiControllerUtil.getIndexId(), project)));
+  }
+
+  /**
+   * Finds the controller methods a URI leads to. The URI path is routed by the first route
+   * matching it, falling back to the default 'controller/method' routing.
+   *
+   * Only the routes of the application the context file belongs to are used. If the file is
+   * outside every application, the URI is routed by each application separately.
+   *
+   * @param uri a URI as passed to {@code site_url()}, e.g. 'blog/view/1?page=2'
+   * @param context file the URI is used in, if any
+   * @param project current project
+   * @return controller methods the URI leads to
+   */
+  @NotNull
+  public static List<Method> findActions(@NotNull String uri, @Nullable VirtualFile context,
+      @NotNull Project project) {
+    if (uri.contains("://")) {
+      // An absolute URL, possibly leading elsewhere
+      return Collections.emptyList();
+    }
+    int end = StringUtil.indexOfAny(uri, "?#");
+    String uriPath = normalizeUriPath(end < 0 ? uri : uri.substring(0, end));
+    Map<VirtualFile, RouteMatcher> matchers = getRouteMatchers(project);
+    Collection<VirtualFile> applicationDirectories = selectApplicationDirectories(context,
+        matchers.keySet());
+    Set<Method> actions = new LinkedHashSet<>();
+    if (applicationDirectories.isEmpty()) {
+      // No routes files at all
+      if (!uriPath.isEmpty()) {
+        actions.addAll(CiControllerUtil.findActions(uriPath, null, null, project));
+      }
+    } else {
+      // Each application only reaches its own controllers
+      for (VirtualFile applicationDirectory : applicationDirectories) {
+        String defaultController = findDefaultController(applicationDirectory, project);
+        for (String target : routeUriPath(uriPath, applicationDirectory,
+            matchers.get(applicationDirectory), project)) {
+          actions.addAll(CiControllerUtil.findActions(target, defaultController,
+              applicationDirectory, project));
+        }
+      }
+    }
+    return new ArrayList<>(actions);
+  }
+
+  /**
+   * @param uriPath normalized URI path
+   * @param applicationDirectory application routing the URI path
+   * @param matcher matcher for the routes of the application
+   * @param project current project
+   * @return paths the URI path is routed to, or the URI path itself if no route matches it
+   */
+  @NotNull
+  private static Collection<String> routeUriPath(@NotNull String uriPath,
+      @NotNull VirtualFile applicationDirectory, @NotNull RouteMatcher matcher,
+      @NotNull Project project) {
+    if (uriPath.isEmpty()) {
+      return findRouteTargets(DEFAULT_CONTROLLER, Collections.singletonList(applicationDirectory),
+          project);
+    }
+    RouteMatcher.Match match = matcher.match(uriPath);
+    return Collections.singletonList(match == null ? uriPath : match.getTarget());
+  }
+
+  /**
+   * @param context a file, if any
+   * @param applicationDirectories all application directories with a routes file
+   * @return the application directory closest to the file, or all of them if the file is not
+   * inside any
+   */
+  @NotNull
+  private static Collection<VirtualFile> selectApplicationDirectories(
+      @Nullable VirtualFile context, @NotNull Set<VirtualFile> applicationDirectories) {
+    for (VirtualFile directory = context; directory != null; directory = directory.getParent()) {
+      if (applicationDirectories.contains(directory)) {
+        return Collections.singletonList(directory);
+      }
+    }
+    return applicationDirectories;
+  }
+
+  /**
+   * @param routesFile a routes file, e.g. 'application/config/routes.php'
+   * @return the application directory the routes file belongs to, e.g. 'application'
+   */
+  @Nullable
+  static VirtualFile getApplicationDirectory(@NotNull VirtualFile routesFile) {
+    VirtualFile configDirectory = routesFile.getParent();
+    return configDirectory == null ? null : configDirectory.getParent();
+  }
+
+  /**
+   * Routes of different applications never shadow each other, so each application directory
+   * gets a matcher of its own.
+   *
+   * @param project current project
+   * @return a matcher for the routes of each application, mapped by application directory and
+   * rebuilt whenever a routes file changes
+   */
+  @NotNull
+  static Map<VirtualFile, RouteMatcher> getRouteMatchers(@NotNull Project project) {
+    return CachedValuesManager.getManager(project).getCachedValue(project, ROUTE_MATCHERS_KEY,
+        () -> {
+          long start = CiMetrics.start(project);
+          try {
+            Map<VirtualFile, RouteMatcher> matchers = new HashMap<>();
+            findRouteDefinitions(project).forEach((applicationDirectory, definitions) ->
+                matchers.put(applicationDirectory, RouteMatcher.compile(definitions)));
+            return Result.create(matchers,
+                MyPsiUtil.getIndexModificationTracker(RouteFileIndex.KEY, project));
+          } finally {
+            CiMetrics.stop(project, CiMetric.ROUTE_MATCHER, start);
+          }
+        }, false);
+  }
+
+  /**
+   * @param routesFile a routes file
+   * @param project current project
+   * @return a matcher for the routes of the application the routes file belongs to
+   */
+  @NotNull
+  static RouteMatcher getRouteMatcher(@NotNull VirtualFile routesFile, @NotNull Project project) {
+    VirtualFile applicationDirectory = getApplicationDirectory(routesFile);
+    RouteMatcher matcher = applicationDirectory == null ? null
+        : getRouteMatchers(project).get(applicationDirectory);
+    return matcher == null ? RouteMatcher.EMPTY : matcher;
+  }
+
+  /**
+   * Checks whether a route target leads to a controller method. Trailing back-references such as
+   * '$1' are method arguments, unless the target names just a controller, in which case the
+   * method is only known at runtime.
+   *
+   * @param target a route target, e.g. 'catalog/product_lookup/$1'
+   * @param applicationDirectory application the route belongs to, or {@code null} if unknown
+   * @param project current project
+   * @return {@code false} if the target is known not to lead to any controller method
+   */
+  static boolean mayLeadToAction(@NotNull String target,
+      @Nullable VirtualFile applicationDirectory, @NotNull Project project) {
+    List<String> segments = StringUtil.split(target, "/");
+    int staticSegments = segments.size();
+    while (staticSegments > 0 && segments.get(staticSegments - 1).startsWith("$")) {
+      staticSegments--;
+    }
+    String staticPath = StringUtil.join(segments.subList(0, staticSegments), "/");
+    if (staticPath.isEmpty() || staticPath.contains("$")) {
+      return true;
+    }
+    String defaultController = applicationDirectory == null ? null
+        : findDefaultController(applicationDirectory, project);
+    if (!CiControllerUtil.findActions(staticPath, defaultController, applicationDirectory, project)
+        .isEmpty()) {
+      return true;
+    }
+    return staticSegments < segments.size() && !CiControllerUtil.findControllers(
+        CiControllerUtil.getControllerPath(staticPath), applicationDirectory, project).isEmpty();
+  }
+
+  /**
+   * Applications whose routes files only hold reserved routes are mapped to an empty list.
+   *
+   * @param project current project
+   * @return routes of each application except for the reserved ones, in definition order, mapped
+   * by application directory
+   */
+  @NotNull
+  private static Map<VirtualFile, List<RouteMatcher.RouteDefinition>> findRouteDefinitions(
+      @NotNull Project project) {
+    FileBasedIndex index = FileBasedIndex.getInstance();
+    List<String> patterns = new ArrayList<>();
+    index.processAllKeys(RouteFileIndex.KEY, pattern -> {
+      patterns.add(pattern);
+      return true;
+    }, project);
+
+    // Patterns are collected first as the index must not be queried while processing its keys
+    Map<VirtualFile, List<Pair<VirtualFile, RouteMatcher.RouteDefinition>>> byApplication =
+        new HashMap<>();
+    GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+    for (String pattern : patterns) {
+      index.processValues(RouteFileIndex.KEY, pattern, null, (file, route) -> {
+        VirtualFile applicationDirectory = getApplicationDirectory(file);
+        if (applicationDirectory != null) {
+          List<Pair<VirtualFile, RouteMatcher.RouteDefinition>> definitions = byApplication
+              .computeIfAbsent(applicationDirectory, directory -> new ArrayList<>());
+          if (!isReservedRoute(pattern)) {
+            definitions.add(Pair.create(file, new RouteMatcher.RouteDefinition(pattern, route)));
+          }
+        }
+        return true;
+      }, scope);
+    }
+
+    Map<VirtualFile, List<RouteMatcher.RouteDefinition>> result = new HashMap<>();
+    byApplication.forEach((applicationDirectory, definitions) -> {
+      definitions.sort(Comparator
+          .comparing((Pair<VirtualFile, RouteMatcher.RouteDefinition> pair) -> pair.first.getPath())
+          .thenComparingInt(pair -> pair.second.getRoute().getOffset()));
+      result.put(applicationDirectory, ContainerUtil.map(definitions, pair -> pair.second));
+    });
+    return result;
+  }
+
+  /**
+   * @param pattern a route pattern
+   * @return {@code true} if the route is reserved by CI rather than matched against URIs
+   */
+  static boolean isReservedRoute(@NotNull String pattern) {
+    return DEFAULT_CONTROLLER.equals(pattern) || OVERRIDE_404.equals(pattern);
+  }
+
+  /**
+   * @param pattern a route pattern, e.g. 'blog/(:num)'
+   * @param applicationDirectories applications whose routes files to look in
+   * @param project current project
+   * @return targets of the routes with the supplied pattern
+   */
+  @NotNull
+  static Set<String> findRouteTargets(@NotNull String pattern,
+      @NotNull Collection<VirtualFile> applicationDirectories, @NotNull Project project) {
+    Set<String> targets = new LinkedHashSet<>();
+    FileBasedIndex.getInstance().processValues(RouteFileIndex.KEY, pattern, null,
+        (file, route) -> {
+          if (applicationDirectories.contains(getApplicationDirectory(file))) {
+            targets.add(route.getTarget());
+          }
+          return true;
+        }, GlobalSearchScope.allScope(project));
+    return targets;
+  }
+
+  /**
+   * @param applicationDirectory an application directory
+   * @param project current project
+   * @return target of the 'default_controller' route of the application, or {@code null} if it
+   * has none
+   */
+  @Nullable
+  static String findDefaultController(@NotNull VirtualFile applicationDirectory,
+      @NotNull Project project) {
+    return ContainerUtil.getFirstItem(findRouteTargets(DEFAULT_CONTROLLER,
+        Collections.singletonList(applicationDirectory), project));
+  }
+
+  /**
+   * @param uriPath a URI path or a route pattern
+   * @return the path without leading and trailing slashes
+   */
+  @NotNull
+  static String normalizeUriPath(@NotNull String uriPath) {
+    return StringUtil.trimTrailing(StringUtil.trimLeading(uriPath.trim(), '/'), '/');
+  }
+
+}
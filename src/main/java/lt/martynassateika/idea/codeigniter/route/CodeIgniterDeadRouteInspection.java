@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.route;
+
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElementVisitor;
+import com.jetbrains.php.lang.psi.PhpFile;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import com.jetbrains.php.lang.psi.visitors.PhpElementVisitor;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import lt.martynassateika.idea.codeigniter.inspection.CodeIgniterInspection;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reports routes which can never be used: routes shadowed by a route defined before them, and
+ * routes whose target does not lead to a controller method.
+ *
+ * Only routes without wildcards are checked for shadowing, by matching their pattern as a URI
+ * path against the {@link RouteMatcher} of the application the routes file belongs to.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class CodeIgniterDeadRouteInspection extends CodeIgniterInspection {
+
+  @Nls
+  @NotNull
+  @Override
+  public String getDisplayName() {
+    return "Dead route";
+  }
+
+  @NotNull
+  @Override
+  public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder problemsHolder, boolean b) {
+    return new PhpElementVisitor() {
+      @Override
+      public void visitPhpFile(PhpFile phpFile) {
+        Project project = phpFile.getProject();
+        VirtualFile file = phpFile.getVirtualFile();
+        if (file != null && CiRouteUtil.isRoutesFile(file)
+            && CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
+          long start = CiMetrics.start(project);
+          try {
+            RouteMatcher matcher = CiRouteUtil.getRouteMatcher(file, project);
+            VirtualFile applicationDirectory = CiRouteUtil.getApplicationDirectory(file);
+            MyPsiUtil.processArrayAssignments(phpFile, "route", (key, index, value) -> {
+              if (!(value instanceof StringLiteralExpression)) {
+                return;
+              }
+              String pattern = CiRouteUtil.normalizeUriPath(key);
+              if (!CiRouteUtil.isReservedRoute(pattern) && RouteMatcher.isLiteral(pattern)) {
+                RouteMatcher.Match match = matcher.match(pattern);
+                if (match != null && !match.getPattern().equals(pattern)) {
+                  problemsHolder.registerProblem(index,
+                      String.format("Route is never used, route '%s' matches first",
+                          match.getPattern()),
+                      ProblemHighlightType.LIKE_UNUSED_SYMBOL);
+                  return;
+                }
+              }
+              String target = CiRouteUtil
+                  .normalizeUriPath(((StringLiteralExpression) value).getContents());
+              if (!CiRouteUtil.mayLeadToAction(target, applicationDirectory, project)) {
+                problemsHolder.registerProblem(value,
+                    String.format("No controller method found for '%s'", target));
+              }
+            });
+          } finally {
+            CiMetrics.stop(project, CiMetric.DEAD_ROUTE_INSPECTION, start);
+          }
+        }
+      }
+    };
+  }
+
+}
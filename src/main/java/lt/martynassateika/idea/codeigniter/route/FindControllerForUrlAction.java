@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.route;
+
+import com.intellij.codeInsight.navigation.NavigationUtil;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.jetbrains.php.lang.psi.elements.Method;
+import java.util.List;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Asks for a URL and navigates to the controller method handling it.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class FindControllerForUrlAction extends AnAction {
+
+  private static final String TITLE = "Find Controller for URL";
+
+  private static final String FRONT_CONTROLLER = "index.php";
+
+  @Override
+  public void update(@NotNull AnActionEvent e) {
+    Project project = e.getProject();
+    e.getPresentation().setEnabledAndVisible(
+        project != null && CodeIgniterProjectSettings.getInstance(project).isEnabled());
+  }
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent e) {
+    Project project = e.getProject();
+    if (project == null) {
+      return;
+    }
+    String url = Messages.showInputDialog(project, "URL or URI, e.g. 'blog/view/1':", TITLE,
+        null);
+    if (StringUtil.isEmptyOrSpaces(url)) {
+      return;
+    }
+    // Route the URL by the application of the file being edited, if any
+    VirtualFile context = e.getData(CommonDataKeys.VIRTUAL_FILE);
+    List<Method> actions = CiRouteUtil.findActions(toUri(url.trim()), context, project);
+    if (actions.isEmpty()) {
+      Messages.showInfoMessage(project,
+          String.format("No controller method handles '%s'", url.trim()), TITLE);
+    } else if (actions.size() == 1) {
+      actions.get(0).navigate(true);
+    } else {
+      NavigationUtil.getPsiElementPopup(actions.toArray(new Method[0]), TITLE)
+          .showCenteredInCurrentWindow(project);
+    }
+  }
+
+  /**
+   * @param url an absolute URL or a URI, e.g. 'http://localhost/index.php/blog/view/1'
+   * @return the URI relative to the front controller, e.g. 'blog/view/1'
+   */
+  @NotNull
+  static String toUri(@NotNull String url) {
+    String uri = url;
+    int schemeEnd = uri.indexOf("://");
+    if (schemeEnd >= 0) {
+      int pathStart = uri.indexOf('/', schemeEnd + 3);
+      uri = pathStart < 0 ? "" : uri.substring(pathStart);
+    }
+    int frontController = uri.indexOf(FRONT_CONTROLLER);
+    if (frontController >= 0) {
+      uri = uri.substring(frontController + FRONT_CONTROLLER.length());
+    }
+    return uri;
+  }
+
+}
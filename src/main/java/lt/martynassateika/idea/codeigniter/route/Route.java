@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.route;
+
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@code $route['pattern'] = 'controller/method'} entry, as stored in {@link RouteFileIndex}.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public final class Route {
+
+  private final int offset;
+
+  @NotNull
+  private final String target;
+
+  Route(int offset, @NotNull String target) {
+    this.offset = offset;
+    this.target = target;
+  }
+
+  /**
+   * @return offset of the array index (e.g. {@code 'blog'} in {@code $route['blog']}) in its file
+   */
+  public int getOffset() {
+    return offset;
+  }
+
+  /**
+   * @return URI path the route leads to, e.g. 'blog/index'
+   */
+  @NotNull
+  public String getTarget() {
+    return target;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Route route = (Route) o;
+    return offset == route.offset && target.equals(route.target);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(offset, target);
+  }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.route;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex.InputFilter;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import com.jetbrains.php.lang.PhpFileType;
+import com.jetbrains.php.lang.psi.PhpFile;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Index of the routes defined in 'config/routes.php', keyed by the route pattern.
+ *
+ * Only routes leading to a string are indexed; routes per HTTP verb
+ * ({@code $route['foo'] = array('GET' => ...)}) and boolean settings are skipped.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class RouteFileIndex extends FileBasedIndexExtension<String, Route> {
+
+  @NonNls
+  static final ID<String, Route> KEY = ID.create("codeigniter.route.file.index");
+
+  private final MyDataIndexer myDataIndexer = new MyDataIndexer();
+
+  @NotNull
+  @Override
+  public ID<String, Route> getName() {
+    return KEY;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, Route, FileContent> getIndexer() {
+    return myDataIndexer;
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<Route> getValueExternalizer() {
+    return RouteExternalizer.INSTANCE;
+  }
+
+  @Override
+  public int getVersion() {
+    return 2;
+  }
+
+  @NotNull
+  @Override
+  public InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE) {
+      @Override
+      public boolean acceptInput(@NotNull VirtualFile file) {
+        return CiRouteUtil.isRoutesFile(file);
+      }
+    };
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  private static class MyDataIndexer implements DataIndexer<String, Route, FileContent> {
+
+    @NotNull
+    @Override
+    public Map<String, Route> map(@NotNull FileContent fileContent) {
+      Project project = fileContent.getProject();
+      long start = CiMetrics.start(project);
+      try {
+        return mapFile(fileContent);
+      } finally {
+        CiMetrics.stop(project, CiMetric.ROUTE_INDEX, start);
+      }
+    }
+
+    @NotNull
+    private Map<String, Route> mapFile(@NotNull FileContent fileContent) {
+      // Only routes files get here, see getInputFilter()
+      if (!StringUtil.contains(fileContent.getContentAsText(), "$route")) {
+        return Collections.emptyMap();
+      }
+      PsiFile psiFile = fileContent.getPsiFile();
+      if (!(psiFile instanceof PhpFile)) {
+        return Collections.emptyMap();
+      }
+      Map<String, Route> map = new HashMap<>();
+      MyPsiUtil.processArrayAssignments(psiFile, "route", (key, index, value) -> {
+        if (value instanceof StringLiteralExpression) {
+          // PHP keeps a reassigned key at its first position, CI tries routes in that order
+          String target = CiRouteUtil
+              .normalizeUriPath(((StringLiteralExpression) value).getContents());
+          map.merge(CiRouteUtil.normalizeUriPath(key),
+              new Route(index.getTextRange().getStartOffset(), target),
+              (first, last) -> new Route(first.getOffset(), last.getTarget()));
+        }
+      });
+      return map;
+    }
+  }
+
+  /**
+   * Stores the index offset and the target of a {@link Route}.
+   */
+  static class RouteExternalizer implements DataExternalizer<Route> {
+
+    static final RouteExternalizer INSTANCE = new RouteExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out, Route value) throws IOException {
+      DataInputOutputUtil.writeINT(out, value.getOffset());
+      IOUtil.writeUTF(out, value.getTarget());
+    }
+
+    @Override
+    public Route read(@NotNull DataInput in) throws IOException {
+      int offset = DataInputOutputUtil.readINT(in);
+      String target = IOUtil.readUTF(in);
+      return new Route(offset, target);
+    }
+
+  }
+
+}
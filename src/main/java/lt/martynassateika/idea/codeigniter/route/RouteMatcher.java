@@ -0,0 +1,410 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.route;
+
+import com.intellij.openapi.util.text.StringUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+/**
+ * Matches URI paths against all routes of one application at once. Each application directory,
+ * i.e. the parent of a 'config/routes.php' file, gets a matcher of its own.
+ *
+ * CI tries routes in the order they are defined and uses the first whose pattern matches the
+ * whole URI path, after replacing ':any' with {@code [^/]+} and ':num' with {@code [0-9]+}.
+ * Trying every route in turn is slow with thousands of routes, so routes are compiled into a
+ * trie of URI segments instead: literal segments are looked up in a hash map and only wildcard
+ * segments are matched with a regular expression, each one against a single segment.
+ *
+ * Routes whose regular expressions may match a slash, e.g. {@code 'files/(.+)'}, cannot be split
+ * into segments. They are matched as a whole, but only if they are defined before the best match
+ * found in the trie.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+final class RouteMatcher {
+
+  static final RouteMatcher EMPTY = new RouteMatcher(Collections.emptyList());
+
+  private static final Pattern BACK_REFERENCE = Pattern.compile("\\$(\\d+)");
+
+  private static final String REGEX_CHARACTERS = "\\.[]{}()*+?^$|";
+
+  /**
+   * Regular expression constructs matching a slash, unless they are part of {@code [^/]}.
+   */
+  private static final String[] UNSAFE_IN_SEGMENT = {".", "\\S", "\\W", "\\D", "[^"};
+
+  private final Node root = new Node();
+
+  /**
+   * Routes which cannot be split into segments, in definition order.
+   */
+  private final List<CompiledRoute> wholeRoutes = new ArrayList<>();
+
+  /**
+   * @param routes routes in definition order
+   */
+  private RouteMatcher(@NotNull List<RouteDefinition> routes) {
+    for (int ordinal = 0; ordinal < routes.size(); ordinal++) {
+      add(routes.get(ordinal), ordinal);
+    }
+  }
+
+  /**
+   * @param routes routes in definition order
+   * @return a matcher for the supplied routes
+   */
+  @NotNull
+  static RouteMatcher compile(@NotNull List<RouteDefinition> routes) {
+    return routes.isEmpty() ? EMPTY : new RouteMatcher(routes);
+  }
+
+  /**
+   * @param pattern a route pattern
+   * @return {@code true} if the pattern contains no wildcards or regular expressions, i.e. it
+   * only matches a URI path equal to it
+   */
+  static boolean isLiteral(@NotNull String pattern) {
+    return !toRegex(pattern).chars().anyMatch(c -> REGEX_CHARACTERS.indexOf(c) >= 0);
+  }
+
+  /**
+   * @param uriPath URI path without leading and trailing slashes, e.g. 'blog/view/1'
+   * @return the first route matching the path, or {@code null} if no route does
+   */
+  @Nullable
+  Match match(@NotNull String uriPath) {
+    String[] segments = uriPath.split("/", -1);
+    Search search = new Search(segments);
+    search.visit(root, 0);
+    Match best = search.best;
+    for (CompiledRoute route : wholeRoutes) {
+      if (best != null && route.ordinal > best.getOrdinal()) {
+        break;
+      }
+      Matcher matcher = route.pattern.matcher(uriPath);
+      if (matcher.matches()) {
+        List<String> groups = new ArrayList<>(matcher.groupCount());
+        for (int i = 1; i <= matcher.groupCount(); i++) {
+          groups.add(StringUtil.notNullize(matcher.group(i)));
+        }
+        return new Match(route.definition, route.ordinal, groups);
+      }
+    }
+    return best;
+  }
+
+  private void add(@NotNull RouteDefinition definition, int ordinal) {
+    // Split before replacing the wildcards, as ':any' becomes a character class holding a slash
+    List<String> segments = new ArrayList<>();
+    List<Pattern> segmentPatterns = new ArrayList<>();
+    for (String rawSegment : StringUtil.split(definition.getPattern(), "/", true, false)) {
+      String segment = toRegex(rawSegment);
+      if (!isSafeSegment(segment)) {
+        addWholeRoute(definition, toRegex(definition.getPattern()), ordinal);
+        return;
+      }
+      segments.add(segment);
+      segmentPatterns.add(isLiteral(segment) ? null : compileOrNull(segment));
+    }
+
+    Node node = root;
+    node.minOrdinal = Math.min(node.minOrdinal, ordinal);
+    for (int i = 0; i < segments.size(); i++) {
+      Pattern pattern = segmentPatterns.get(i);
+      if (pattern == null && !isLiteral(segments.get(i))) {
+        // Invalid regular expression, CI would not match it either
+        return;
+      }
+      node = pattern == null
+          ? node.getLiteralChild(segments.get(i))
+          : node.getPatternChild(pattern);
+      node.minOrdinal = Math.min(node.minOrdinal, ordinal);
+    }
+    if (node.route == null) {
+      node.route = definition;
+      node.routeOrdinal = ordinal;
+    }
+  }
+
+  /**
+   * @return number of routes which could not be split into segments
+   */
+  @TestOnly
+  int getWholeRouteCount() {
+    return wholeRoutes.size();
+  }
+
+  private void addWholeRoute(@NotNull RouteDefinition definition, @NotNull String regex,
+      int ordinal) {
+    Pattern pattern = compileOrNull(regex);
+    if (pattern != null) {
+      wholeRoutes.add(new CompiledRoute(definition, ordinal, pattern));
+    }
+  }
+
+  /**
+   * @param segment a segment of a route pattern
+   * @return {@code true} if the segment can only match a single URI segment
+   */
+  private static boolean isSafeSegment(@NotNull String segment) {
+    int parentheses = 0;
+    int brackets = 0;
+    for (int i = 0; i < segment.length(); i++) {
+      char c = segment.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (c == '(') {
+        parentheses++;
+      } else if (c == ')') {
+        parentheses--;
+      } else if (c == '[') {
+        brackets++;
+      } else if (c == ']') {
+        brackets--;
+      }
+    }
+    if (parentheses != 0 || brackets != 0) {
+      // A group or a character class spanning several segments
+      return false;
+    }
+    String withoutEscapedDots = segment.replace("[^/]", "").replace("\\.", "");
+    for (String unsafe : UNSAFE_IN_SEGMENT) {
+      if (withoutEscapedDots.contains(unsafe)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @NotNull
+  private static String toRegex(@NotNull String pattern) {
+    return pattern.replace(":any", "[^/]+").replace(":num", "[0-9]+");
+  }
+
+  @Nullable
+  private static Pattern compileOrNull(@NotNull String regex) {
+    try {
+      return Pattern.compile(regex);
+    } catch (PatternSyntaxException e) {
+      return null;
+    }
+  }
+
+  /**
+   * A route as defined in a routes file.
+   */
+  static final class RouteDefinition {
+
+    @NotNull
+    private final String pattern;
+
+    @NotNull
+    private final Route route;
+
+    RouteDefinition(@NotNull String pattern, @NotNull Route route) {
+      this.pattern = pattern;
+      this.route = route;
+    }
+
+    @NotNull
+    String getPattern() {
+      return pattern;
+    }
+
+    @NotNull
+    Route getRoute() {
+      return route;
+    }
+
+  }
+
+  /**
+   * The route a URI path is routed by.
+   */
+  static final class Match {
+
+    @NotNull
+    private final RouteDefinition definition;
+
+    private final int ordinal;
+
+    @NotNull
+    private final List<String> groups;
+
+    private Match(@NotNull RouteDefinition definition, int ordinal, @NotNull List<String> groups) {
+      this.definition = definition;
+      this.ordinal = ordinal;
+      this.groups = groups;
+    }
+
+    @NotNull
+    String getPattern() {
+      return definition.getPattern();
+    }
+
+    /**
+     * @return position of the route among all routes
+     */
+    int getOrdinal() {
+      return ordinal;
+    }
+
+    /**
+     * @return the route target with back-references such as '$1' replaced by the matched text
+     */
+    @NotNull
+    String getTarget() {
+      String target = definition.getRoute().getTarget();
+      if (groups.isEmpty() || target.indexOf('$') < 0) {
+        return target;
+      }
+      Matcher matcher = BACK_REFERENCE.matcher(target);
+      StringBuilder builder = new StringBuilder();
+      int end = 0;
+      while (matcher.find()) {
+        int group = Integer.parseInt(matcher.group(1));
+        builder.append(target, end, matcher.start());
+        builder.append(group >= 1 && group <= groups.size()
+            ? groups.get(group - 1) : matcher.group());
+        end = matcher.end();
+      }
+      return builder.append(target, end, target.length()).toString();
+    }
+
+  }
+
+  private static final class Node {
+
+    private final Map<String, Node> literalChildren = new HashMap<>();
+
+    private final List<Pattern> patterns = new ArrayList<>();
+
+    private final List<Node> patternChildren = new ArrayList<>();
+
+    /**
+     * Lowest ordinal of the routes passing through this node.
+     */
+    private int minOrdinal = Integer.MAX_VALUE;
+
+    /**
+     * First route ending in this node.
+     */
+    @Nullable
+    private RouteDefinition route;
+
+    private int routeOrdinal = Integer.MAX_VALUE;
+
+    @NotNull
+    Node getLiteralChild(@NotNull String segment) {
+      return literalChildren.computeIfAbsent(segment, s -> new Node());
+    }
+
+    @NotNull
+    Node getPatternChild(@NotNull Pattern pattern) {
+      for (int i = 0; i < patterns.size(); i++) {
+        if (patterns.get(i).pattern().equals(pattern.pattern())) {
+          return patternChildren.get(i);
+        }
+      }
+      Node child = new Node();
+      patterns.add(pattern);
+      patternChildren.add(child);
+      return child;
+    }
+
+  }
+
+  private static final class CompiledRoute {
+
+    @NotNull
+    private final RouteDefinition definition;
+
+    private final int ordinal;
+
+    @NotNull
+    private final Pattern pattern;
+
+    CompiledRoute(@NotNull RouteDefinition definition, int ordinal, @NotNull Pattern pattern) {
+      this.definition = definition;
+      this.ordinal = ordinal;
+      this.pattern = pattern;
+    }
+
+  }
+
+  /**
+   * Depth-first search for the route with the lowest ordinal, skipping subtrees which can only
+   * hold routes defined after the best match so far.
+   */
+  private static final class Search {
+
+    @NotNull
+    private final String[] segments;
+
+    private final List<String> groups = new ArrayList<>();
+
+    @Nullable
+    private Match best;
+
+    Search(@NotNull String[] segments) {
+      this.segments = segments;
+    }
+
+    void visit(@NotNull Node node, int index) {
+      if (best != null && node.minOrdinal >= best.getOrdinal()) {
+        return;
+      }
+      if (index == segments.length) {
+        if (node.route != null && (best == null || node.routeOrdinal < best.getOrdinal())) {
+          best = new Match(node.route, node.routeOrdinal, new ArrayList<>(groups));
+        }
+        return;
+      }
+      String segment = segments[index];
+      Node literalChild = node.literalChildren.get(segment);
+      if (literalChild != null) {
+        visit(literalChild, index + 1);
+      }
+      for (int i = 0; i < node.patterns.size(); i++) {
+        Matcher matcher = node.patterns.get(i).matcher(segment);
+        if (matcher.matches()) {
+          int size = groups.size();
+          for (int group = 1; group <= matcher.groupCount(); group++) {
+            groups.add(StringUtil.notNullize(matcher.group(group)));
+          }
+          visit(node.patternChildren.get(i), index + 1);
+          groups.subList(size, groups.size()).clear();
+        }
+      }
+    }
+
+  }
+
+}
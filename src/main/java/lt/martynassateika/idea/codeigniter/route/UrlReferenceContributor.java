@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.route;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiReferenceContributor;
+import com.intellij.psi.PsiReferenceProvider;
+import com.intellij.psi.PsiReferenceRegistrar;
+import com.intellij.util.ProcessingContext;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.psi.MyPolyVariantReference;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiPatterns;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reference contributor for URIs passed to URL helper functions, e.g. {@code site_url('blog')},
+ * resolving to the controller methods they lead to.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class UrlReferenceContributor extends PsiReferenceContributor {
+
+  @Override
+  public void registerReferenceProviders(@NotNull PsiReferenceRegistrar registrar) {
+    registrar.registerReferenceProvider(MyPsiPatterns.stringArgumentOf(CiRouteUtil.URL_FUNCTIONS),
+        new PsiReferenceProvider() {
+          @NotNull
+          @Override
+          public PsiReference[] getReferencesByElement(@NotNull PsiElement psiElement,
+              @NotNull ProcessingContext processingContext) {
+            // redirect('blog/view');
+            Project project = psiElement.getProject();
+            if (CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
+              if (CiRouteUtil.isUrlElement(psiElement)) {
+                StringLiteralExpression literalExpression = (StringLiteralExpression) psiElement;
+                return new PsiReference[]{
+                    new MyPolyVariantReference(literalExpression, CiMetric.URL_RESOLVE,
+                        CiRouteUtil::findActions)
+                };
+              }
+            }
+            return PsiReference.EMPTY_ARRAY;
+          }
+        });
+  }
+
+}
@@ -20,6 +20,7 @@ import com.intellij.openapi.options.SearchableConfigurable;
 import javax.swing.JCheckBox;
 import javax.swing.JComponent;
 import javax.swing.JPanel;
+import javax.swing.JTextField;
 
 import com.intellij.openapi.project.Project;
 import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
@@ -105,18 +106,33 @@ public class CodeIgniterSettingsConfigurable implements SearchableConfigurable {
 
     private JCheckBox isEnabledCheckBox;
 
+    private JTextField preferredIdiomTextField;
+
+    private JCheckBox isDiagnosticsEnabledCheckBox;
+
     private void reset(CodeIgniterProjectSettings settings) {
       final boolean isEnabled = settings.isEnabled();
       isEnabledCheckBox.setSelected(isEnabled);
+      preferredIdiomTextField.setText(settings.getPreferredIdiom());
+      isDiagnosticsEnabledCheckBox.setSelected(settings.isDiagnosticsEnabled());
     }
 
     private void apply(CodeIgniterProjectSettings settings) {
       settings.setEnabled(isEnabledCheckBox.isSelected());
+      settings.setPreferredIdiom(getPreferredIdiom());
+      settings.setDiagnosticsEnabled(isDiagnosticsEnabledCheckBox.isSelected());
     }
 
     private boolean isModified(CodeIgniterProjectSettings settings) {
       final boolean isEnabled = settings.isEnabled();
-      return isEnabledCheckBox.isSelected() != isEnabled;
+      return isEnabledCheckBox.isSelected() != isEnabled
+          || !getPreferredIdiom().equals(settings.getPreferredIdiom())
+          || isDiagnosticsEnabledCheckBox.isSelected() != settings.isDiagnosticsEnabled();
+    }
+
+    private String getPreferredIdiom() {
+      String idiom = preferredIdiomTextField.getText().trim();
+      return idiom.isEmpty() ? CodeIgniterProjectSettings.DEFAULT_IDIOM : idiom;
     }
   }
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.usage;
+
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider.Result;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Utility methods for looking up usages stored in {@link UsageIndex}.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class CiUsageUtil {
+
+  private static final Key<CachedValue<Map<UsageKind, Set<String>>>> USED_NAMES_KEY = Key
+      .create("codeigniter.used.names");
+
+  /**
+   * Returns names of all resources of the supplied kind used anywhere in the project.
+   *
+   * The names are cached until {@link UsageIndex} changes.
+   *
+   * @param kind usage kind
+   * @param project current project
+   * @return names of all used resources of the supplied kind
+   */
+  @NotNull
+  public static Set<String> getUsedNames(@NotNull UsageKind kind, @NotNull Project project) {
+    Map<UsageKind, Set<String>> usedNames = CachedValuesManager.getManager(project)
+        .getCachedValue(project, USED_NAMES_KEY, () -> Result.create(new ConcurrentHashMap<>(),
+            MyPsiUtil.getIndexModificationTracker(UsageIndex.KEY, project)), false);
+    Set<String> names = usedNames.get(kind);
+    if (names == null) {
+      names = findUsedNames(kind, GlobalSearchScope.allScope(project), project);
+      usedNames.put(kind, names);
+    }
+    return names;
+  }
+
+  /**
+   * @param kind usage kind
+   * @param scope scope to look for usages in
+   * @param project current project
+   * @return names of all resources of the supplied kind used in the scope
+   */
+  @NotNull
+  public static Set<String> findUsedNames(@NotNull UsageKind kind,
+      @NotNull GlobalSearchScope scope, @NotNull Project project) {
+    FileBasedIndex index = FileBasedIndex.getInstance();
+    List<String> indexKeys = new ArrayList<>();
+    index.processAllKeys(UsageIndex.KEY, indexKey -> {
+      if (kind.getName(indexKey) != null) {
+        indexKeys.add(indexKey);
+      }
+      return true;
+    }, project);
+
+    // The index may return keys which are no longer used anywhere
+    Set<String> names = new HashSet<>();
+    for (String indexKey : indexKeys) {
+      ProgressManager.checkCanceled();
+      if (!index.processValues(UsageIndex.KEY, indexKey, null, (file, offsets) -> false, scope)) {
+        names.add(kind.getName(indexKey));
+      }
+    }
+    return names;
+  }
+
+  /**
+   * @param kind usage kind
+   * @param name name of the used resource
+   * @param scope scope to look for usages in
+   * @param processor receives the file and the start offset of every usage, may return
+   * {@code false} to stop
+   * @return {@code false} if the processor stopped the search
+   */
+  public static boolean processUsages(@NotNull UsageKind kind, @NotNull String name,
+      @NotNull GlobalSearchScope scope, @NotNull UsageProcessor processor) {
+    return FileBasedIndex.getInstance().processValues(UsageIndex.KEY, kind.getIndexKey(name), null,
+        (file, offsets) -> {
+          for (int offset : offsets) {
+            if (!processor.process(file, offset)) {
+              return false;
+            }
+          }
+          return true;
+        }, scope);
+  }
+
+  /**
+   * @param psiManager PSI manager of the current project
+   * @param file file containing the usage
+   * @param offset start offset of the usage
+   * @return the string literal at the offset, or {@code null} if it is no longer there
+   */
+  @Nullable
+  public static StringLiteralExpression findUsage(@NotNull PsiManager psiManager,
+      @NotNull VirtualFile file, int offset) {
+    if (!file.isValid()) {
+      return null;
+    }
+    PsiFile psiFile = psiManager.findFile(file);
+    if (psiFile == null) {
+      return null;
+    }
+    return PsiTreeUtil.getParentOfType(psiFile.findElementAt(offset),
+        StringLiteralExpression.class, false);
+  }
+
+  /**
+   * Receives usages found by {@link #processUsages}.
+   */
+  @FunctionalInterface
+  public interface UsageProcessor {
+
+    boolean process(@NotNull VirtualFile file, int offset);
+
+  }
+
+}
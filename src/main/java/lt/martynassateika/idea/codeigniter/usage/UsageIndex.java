@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.usage;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex.InputFilter;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.jetbrains.php.lang.PhpFileType;
+import com.jetbrains.php.lang.psi.PhpFile;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Index of string literals naming CI resources, e.g. language line keys passed to 'lang' or views
+ * passed to 'load->view'.
+ *
+ * Keys are of the form 'kind:name', see {@link UsageKind}. Values are the start offsets of the
+ * string literals in the file.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class UsageIndex extends FileBasedIndexExtension<String, List<Integer>> {
+
+  @NonNls
+  static final ID<String, List<Integer>> KEY = ID.create("codeigniter.usage.index");
+
+  private final MyDataIndexer myDataIndexer = new MyDataIndexer();
+
+  @NotNull
+  @Override
+  public ID<String, List<Integer>> getName() {
+    return KEY;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, List<Integer>, FileContent> getIndexer() {
+    return myDataIndexer;
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<List<Integer>> getValueExternalizer() {
+    return OffsetsExternalizer.INSTANCE;
+  }
+
+  @Override
+  public int getVersion() {
+    return 5;
+  }
+
+  @NotNull
+  @Override
+  public InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(PhpFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  private static class MyDataIndexer implements DataIndexer<String, List<Integer>, FileContent> {
+
+    @NotNull
+    @Override
+    public Map<String, List<Integer>> map(@NotNull FileContent fileContent) {
+      Project project = fileContent.getProject();
+      long start = CiMetrics.start(project);
+      try {
+        return mapFile(fileContent);
+      } finally {
+        CiMetrics.stop(project, CiMetric.USAGE_INDEX, start);
+      }
+    }
+
+    @NotNull
+    private Map<String, List<Integer>> mapFile(@NotNull FileContent fileContent) {
+      CharSequence text = fileContent.getContentAsText();
+      Set<UsageKind> kinds = EnumSet.noneOf(UsageKind.class);
+      for (UsageKind kind : UsageKind.values()) {
+        if (kind.mayBeUsedIn(text)) {
+          kinds.add(kind);
+        }
+      }
+      if (kinds.isEmpty()) {
+        return Collections.emptyMap();
+      }
+      PsiFile psiFile = fileContent.getPsiFile();
+      if (!(psiFile instanceof PhpFile)) {
+        return Collections.emptyMap();
+      }
+      Map<String, List<Integer>> map = new HashMap<>();
+      for (StringLiteralExpression literal : PsiTreeUtil
+          .findChildrenOfType(psiFile, StringLiteralExpression.class)) {
+        for (UsageKind kind : kinds) {
+          String name = kind.getUsedName(literal);
+          if (name != null) {
+            map.computeIfAbsent(kind.getIndexKey(name), key -> new ArrayList<>())
+                .add(literal.getTextRange().getStartOffset());
+          }
+        }
+      }
+      return map;
+    }
+  }
+
+  /**
+   * Stores the start offsets of the string literals.
+   */
+  static class OffsetsExternalizer implements DataExternalizer<List<Integer>> {
+
+    static final OffsetsExternalizer INSTANCE = new OffsetsExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out, List<Integer> value) throws IOException {
+      DataInputOutputUtil.writeINT(out, value.size());
+      for (int offset : value) {
+        DataInputOutputUtil.writeINT(out, offset);
+      }
+    }
+
+    @Override
+    public List<Integer> read(@NotNull DataInput in) throws IOException {
+      int size = DataInputOutputUtil.readINT(in);
+      List<Integer> offsets = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        offsets.add(DataInputOutputUtil.readINT(in));
+      }
+      return offsets;
+    }
+
+  }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.usage;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.jetbrains.php.lang.psi.elements.BinaryExpression;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import lt.martynassateika.idea.codeigniter.config.CiConfigUtil;
+import lt.martynassateika.idea.codeigniter.helper.CiHelperUtil;
+import lt.martynassateika.idea.codeigniter.language.CiLanguageUtil;
+import lt.martynassateika.idea.codeigniter.model.CiModelUtil;
+import lt.martynassateika.idea.codeigniter.psi.MyStringEvaluator;
+import lt.martynassateika.idea.codeigniter.view.CiViewUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Kinds of CI resources whose usages are stored in {@link UsageIndex}.
+ *
+ * Names are normalized the same way as the keys of the index of the used resource, e.g. view names
+ * have no '.php' extension.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public enum UsageKind {
+
+  /**
+   * Config items, e.g. {@code config_item('foo')} or {@code $this->config->item('foo')}.
+   */
+  CONFIG("config", "config_item(", "->item(", "->set_item(", "->slash_item(") {
+    @Nullable
+    @Override
+    String getUsedName(@NotNull StringLiteralExpression literal) {
+      return CiConfigUtil.isConfigItemNameElement(literal) ? literal.getContents() : null;
+    }
+  },
+
+  /**
+   * Helpers, e.g. {@code $this->load->helper('foo')},
+   * {@code $this->load->helper(array('foo', 'bar'))} or {@code $autoload['helper'] = array('foo')}.
+   */
+  HELPER("helper", "->helper(", "$autoload") {
+    @Nullable
+    @Override
+    String getUsedName(@NotNull StringLiteralExpression literal) {
+      return CiHelperUtil.isHelperNameElement(literal)
+          ? CiHelperUtil.formatHelperPath(StringUtil.unquoteString(literal.getText())) : null;
+    }
+  },
+
+  /**
+   * Language line keys, e.g. {@code lang('foo')} or {@code $this->lang->line('foo')}.
+   */
+  LANGUAGE("lang", "lang(", "->line(") {
+    @Nullable
+    @Override
+    String getUsedName(@NotNull StringLiteralExpression literal) {
+      return CiLanguageUtil.isLanguageLineArgument(literal) ? literal.getContents() : null;
+    }
+  },
+
+  /**
+   * Known starts of language line keys built by concatenation, e.g. 'error_' for
+   * {@code lang('error_' . $code)}. Any key starting with one of them may be used.
+   */
+  LANGUAGE_PREFIX("lang-prefix", "lang(", "->line(") {
+    @Nullable
+    @Override
+    String getUsedName(@NotNull StringLiteralExpression literal) {
+      BinaryExpression concatenation = MyStringEvaluator.getConcatenation(literal);
+      if (concatenation != null && CiLanguageUtil.isLanguageLineArgument(concatenation)) {
+        return StringUtil.nullize(literal.getContents());
+      }
+      return null;
+    }
+  },
+
+  /**
+   * Models, e.g. {@code $this->load->model('foo')}.
+   */
+  MODEL("model", "->model(") {
+    @Nullable
+    @Override
+    String getUsedName(@NotNull StringLiteralExpression literal) {
+      return CiModelUtil.isArgumentOfLoadModel(literal, 0)
+          ? CiModelUtil.getModelName(StringUtil.unquoteString(literal.getText())) : null;
+    }
+  },
+
+  /**
+   * Views, e.g. {@code $this->load->view('foo')}.
+   */
+  VIEW("view", "->view(") {
+    @Nullable
+    @Override
+    String getUsedName(@NotNull StringLiteralExpression literal) {
+      return CiViewUtil.isArgumentOfLoadView(literal, 0)
+          ? CiViewUtil.getViewName(StringUtil.unquoteString(literal.getText())) : null;
+    }
+  };
+
+  @NotNull
+  private final String prefix;
+
+  @NotNull
+  private final String[] markers;
+
+  /**
+   * @param prefix prefix of the index keys of this kind
+   * @param markers texts one of which must be present in a file for it to contain usages of this
+   * kind, shaped like the calls using the resources so that unrelated words do not match
+   */
+  UsageKind(@NotNull String prefix, @NotNull String... markers) {
+    this.prefix = prefix;
+    this.markers = markers;
+  }
+
+  /**
+   * @param name name of the used resource, e.g. a language line key
+   * @return the key under which usages of the resource are stored in {@link UsageIndex}
+   */
+  @NotNull
+  String getIndexKey(@NotNull String name) {
+    return prefix + ':' + name;
+  }
+
+  /**
+   * @param indexKey a key of {@link UsageIndex}
+   * @return name of the used resource if the key is of this kind, else {@code null}
+   */
+  @Nullable
+  String getName(@NotNull String indexKey) {
+    if (indexKey.length() > prefix.length() && indexKey.startsWith(prefix)
+        && indexKey.charAt(prefix.length()) == ':') {
+      return indexKey.substring(prefix.length() + 1);
+    }
+    return null;
+  }
+
+  /**
+   * @param text file text
+   * @return {@code true} if the text contains any of the markers of this kind
+   */
+  boolean mayBeUsedIn(@NotNull CharSequence text) {
+    for (String marker : markers) {
+      if (StringUtil.contains(text, marker)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param literal a string literal
+   * @return name of the resource of this kind the string literal refers to, or {@code null} if it
+   * does not refer to one
+   */
+  @Nullable
+  abstract String getUsedName(@NotNull StringLiteralExpression literal);
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.usage;
+
+import com.intellij.openapi.application.QueryExecutorBase;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.SearchScope;
+import com.intellij.psi.search.searches.ReferencesSearch.SearchParameters;
+import com.intellij.util.Processor;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
+import java.util.Collection;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Finds references to CI resources by looking up their usages in {@link UsageIndex}, rather than
+ * searching for their names in the text of every file.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public abstract class UsageReferencesSearcher extends
+    QueryExecutorBase<PsiReference, SearchParameters> {
+
+  @NotNull
+  private final UsageKind kind;
+
+  /**
+   * @param kind kind of the resources this searcher finds references to
+   */
+  protected UsageReferencesSearcher(@NotNull UsageKind kind) {
+    super(true);
+    this.kind = kind;
+  }
+
+  @Override
+  public void processQuery(@NotNull SearchParameters queryParameters,
+      @NotNull Processor<? super PsiReference> consumer) {
+    Project project = queryParameters.getProject();
+    if (!CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
+      return;
+    }
+    PsiElement target = queryParameters.getElementToSearch();
+    Collection<String> names = getNames(target);
+    if (names.isEmpty()) {
+      return;
+    }
+    SearchScope scope = queryParameters.getEffectiveSearchScope();
+    GlobalSearchScope indexScope = scope instanceof GlobalSearchScope
+        ? (GlobalSearchScope) scope : GlobalSearchScope.allScope(project);
+    PsiManager psiManager = PsiManager.getInstance(project);
+    for (String name : names) {
+      boolean proceed = CiUsageUtil.processUsages(kind, name, indexScope, (file, offset) -> {
+        if (scope.contains(file)) {
+          StringLiteralExpression literal = CiUsageUtil.findUsage(psiManager, file, offset);
+          if (literal != null) {
+            for (PsiReference reference : literal.getReferences()) {
+              if (reference.isReferenceTo(target) && !consumer.process(reference)) {
+                return false;
+              }
+            }
+          }
+        }
+        return true;
+      });
+      if (!proceed) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * @param target element whose references are searched for
+   * @return names under which the element is used, or an empty collection if it is not a resource
+   * of this searcher's kind
+   */
+  @NotNull
+  protected abstract Collection<String> getNames(@NotNull PsiElement target);
+
+}
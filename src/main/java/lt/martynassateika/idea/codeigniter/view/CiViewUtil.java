@@ -17,19 +17,32 @@
 package lt.martynassateika.idea.codeigniter.view;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiFileSystemItem;
 import com.intellij.psi.PsiManager;
-import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.jetbrains.php.lang.psi.elements.BinaryExpression;
+import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import lt.martynassateika.idea.codeigniter.CiFileUtil;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectService;
 import lt.martynassateika.idea.codeigniter.PhpExtensionUtil;
+import lt.martynassateika.idea.codeigniter.psi.EvaluatedString;
 import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
+import lt.martynassateika.idea.codeigniter.psi.MyStringEvaluator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Utility methods related to the CI Views.
@@ -37,44 +50,153 @@ import lt.martynassateika.idea.codeigniter.psi.MyPsiUtil;
  * @author martynas.sateika
  * @since 0.2.0
  */
-class CiViewUtil {
+public class CiViewUtil {
+
+  private static final String VIEW_DIRECTORY_NAME = "views";
+
+  private static final Key<CachedValue<Collection<VirtualFile>>> VIEW_FILES_KEY = Key
+      .create("codeigniter.view.files");
+
+  private static final Key<CachedValue<Collection<VirtualFile>>> MATCHING_VIEW_FILES_KEY = Key
+      .create("codeigniter.matching.view.files");
 
   /**
-   * Returns a list of view files whose relative path from a view directory equals the supplied
-   * relative path.
+   * Returns a list of view files whose relative path from a view directory equals the relative
+   * path in the supplied string literal.
    *
-   * @param relativePath relative path to a view file
-   * @param project current project
+   * @param literalExpression string literal containing a relative path to a view file
    * @return list of all matching view files
    */
-  static List<PsiFile> findViewFiles(String relativePath, Project project) {
-    PsiManager psiManager = PsiManager.getInstance(project);
-
-    // If no extension is specified, it's a PHP file
-    relativePath = PhpExtensionUtil.addIfMissing(relativePath);
+  static List<PsiFile> findViewFiles(StringLiteralExpression literalExpression) {
+    PsiManager psiManager = literalExpression.getManager();
+    List<PsiFile> viewFiles = new ArrayList<>();
+    for (VirtualFile viewFile : getViewFiles(literalExpression)) {
+      PsiFile psiFile = psiManager.findFile(viewFile);
+      if (psiFile != null) {
+        viewFiles.add(psiFile);
+      }
+    }
+    return viewFiles;
+  }
 
+  /**
+   * Returns view files a concatenation starting with the supplied string literal may refer to,
+   * e.g. 'admin/users/list.php' for {@code 'admin/' . $section . '/list'}.
+   *
+   * @param literalExpression first operand of a concatenation
+   * @return list of all matching view files
+   */
+  static List<PsiFile> findMatchingViewFiles(StringLiteralExpression literalExpression) {
+    BinaryExpression concatenation = MyStringEvaluator.getConcatenation(literalExpression);
+    if (concatenation == null) {
+      return Collections.emptyList();
+    }
+    PsiManager psiManager = literalExpression.getManager();
     List<PsiFile> viewFiles = new ArrayList<>();
-    for (PsiFileSystemItem fileSystemItem : getViewDirectories(project)) {
-      VirtualFile viewDirectory = fileSystemItem.getVirtualFile();
-      VirtualFile viewFile = viewDirectory.findFileByRelativePath(relativePath);
-      if (viewFile != null && !viewFile.isDirectory()) {
-        PsiFile psiFile = psiManager.findFile(viewFile);
-        if (psiFile != null) {
-          viewFiles.add(psiFile);
-        }
+    for (VirtualFile viewFile : getMatchingViewFiles(concatenation)) {
+      PsiFile psiFile = psiManager.findFile(viewFile);
+      if (psiFile != null) {
+        viewFiles.add(psiFile);
       }
     }
     return viewFiles;
   }
 
   /**
+   * @param expression an expression evaluating to a (partially known) relative path to a view file
+   * @return all view files the expression may refer to
+   */
+  static Collection<VirtualFile> getMatchingViewFiles(@NotNull PsiElement expression) {
+    return MyPsiUtil.getCachedIndexValue(expression, MATCHING_VIEW_FILES_KEY, ViewFileIndex.KEY,
+        element -> {
+          Project project = element.getProject();
+          EvaluatedString viewName = MyStringEvaluator.evaluate(element).removeSuffix(".php");
+          Set<VirtualFile> viewFiles = new LinkedHashSet<>();
+          for (String key : MyStringEvaluator
+              .findMatchingKeys(viewName, ViewFileIndex.KEY, project)) {
+            viewFiles.addAll(getViewFiles(key, project));
+          }
+          return viewFiles;
+        });
+  }
+
+  /**
+   * @param literalExpression string literal containing a relative path to a view file
+   * @return {@code true} if at least one view directory contains a file at the supplied path
+   */
+  static boolean viewExists(StringLiteralExpression literalExpression) {
+    return !getViewFiles(literalExpression).isEmpty();
+  }
+
+  /**
+   * @param literalExpression string literal containing a relative path to a view file
+   * @return all view files whose relative path from a view directory equals the supplied one
+   */
+  private static Collection<VirtualFile> getViewFiles(StringLiteralExpression literalExpression) {
+    return MyPsiUtil.getCachedIndexValue(literalExpression, VIEW_FILES_KEY, ViewFileIndex.KEY,
+        literal -> getViewFiles(StringUtil.unquoteString(literal.getText()), literal.getProject()));
+  }
+
+  /**
+   * @param relativePath relative path to a view file
    * @param project current project
-   * @return all directories called 'views' in the project
+   * @return all view files whose relative path from a view directory equals the supplied one
    */
-  static List<PsiFileSystemItem> getViewDirectories(Project project) {
-    GlobalSearchScope scope = GlobalSearchScope.allScope(project);
-    PsiFileSystemItem[] items = FilenameIndex.getFilesByName(project, "views", scope, true);
-    return Arrays.stream(items).filter(PsiFileSystemItem::isDirectory).collect(Collectors.toList());
+  static Collection<VirtualFile> getViewFiles(String relativePath, Project project) {
+    return FileBasedIndex.getInstance().getContainingFiles(ViewFileIndex.KEY,
+        getViewName(relativePath), GlobalSearchScope.allScope(project));
+  }
+
+  /**
+   * Returns the name under which a view is stored in {@link ViewFileIndex}.
+   *
+   * If no extension is specified, CI assumes a PHP file, hence 'foo' and 'foo.php' are the same.
+   *
+   * @param relativePath relative path to a view file
+   * @return the view name
+   */
+  @NotNull
+  public static String getViewName(@NotNull String relativePath) {
+    return PhpExtensionUtil.removeIfPresent(relativePath);
+  }
+
+  /**
+   * @param file a file or directory
+   * @return the closest ancestor directory called 'views', or {@code null} if there is none
+   */
+  @Nullable
+  static VirtualFile getClosestViewDirectory(@NotNull VirtualFile file) {
+    return CiFileUtil.findClosestAncestor(file, VIEW_DIRECTORY_NAME);
+  }
+
+  /**
+   * Returns the view directory new views loaded from a file should be created in.
+   *
+   * That is the 'views' directory closest to the file, e.g. 'application/views' for
+   * 'application/controllers/Blog.php', or the first view directory in the project if the file
+   * has none nearby.
+   *
+   * @param file a file loading views
+   * @return a view directory, or {@code null} if the project has none
+   */
+  @Nullable
+  static VirtualFile findViewDirectoryFor(@NotNull PsiFile file) {
+    Project project = file.getProject();
+    VirtualFile virtualFile = file.getOriginalFile().getVirtualFile();
+    if (virtualFile != null) {
+      ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(project);
+      VirtualFile directory = virtualFile.getParent();
+      while (directory != null && fileIndex.isInContent(directory)) {
+        VirtualFile viewDirectory = directory.findChild(VIEW_DIRECTORY_NAME);
+        if (viewDirectory != null && viewDirectory.isDirectory()) {
+          return viewDirectory;
+        }
+        directory = directory.getParent();
+      }
+    }
+    List<VirtualFile> viewDirectories = CodeIgniterProjectService.getInstance(project)
+        .getDirectories(CodeIgniterProjectService.VIEWS);
+    return viewDirectories.isEmpty() ? null : viewDirectories.get(0);
   }
 
   /**
@@ -82,7 +204,7 @@ class CiViewUtil {
    * @param argIndex method parameter index (0-based)
    * @return {@code true} if {@code element} is an argument of a {@code load->view()} call
    */
-  static boolean isArgumentOfLoadView(PsiElement element, int argIndex) {
+  public static boolean isArgumentOfLoadView(PsiElement element, int argIndex) {
     return MyPsiUtil.isArgumentOfMethod(element, "load", "view", argIndex);
   }
 
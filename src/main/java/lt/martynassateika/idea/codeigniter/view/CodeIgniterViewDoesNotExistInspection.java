@@ -16,16 +16,34 @@
 
 package lt.martynassateika.idea.codeigniter.view;
 
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
 import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.fileEditor.OpenFileDescriptor;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.PathUtil;
+import com.jetbrains.php.lang.psi.elements.MethodReference;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
 import com.jetbrains.php.lang.psi.visitors.PhpElementVisitor;
 
+import java.io.IOException;
 import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
+import lt.martynassateika.idea.codeigniter.PhpExtensionUtil;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
 import lt.martynassateika.idea.codeigniter.inspection.CodeIgniterInspection;
-import lt.martynassateika.idea.codeigniter.psi.MyPsiReference;
+import lt.martynassateika.idea.codeigniter.psi.EvaluatedString;
+import lt.martynassateika.idea.codeigniter.psi.MyStringEvaluator;
 import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.Nls.Capitalization;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -46,18 +64,115 @@ public class CodeIgniterViewDoesNotExistInspection extends CodeIgniterInspection
   public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder problemsHolder, boolean b) {
     return new PhpElementVisitor() {
       @Override
-      public void visitPhpStringLiteralExpression(StringLiteralExpression expression) {
-        Project project = expression.getProject();
+      public void visitPhpMethodReference(MethodReference reference) {
+        PsiElement[] parameters = reference.getParameters();
+        if (parameters.length == 0 || !CiViewUtil.isArgumentOfLoadView(parameters[0], 0)) {
+          return;
+        }
+        PsiElement argument = parameters[0];
+        Project project = argument.getProject();
         if (CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
-          if (CiViewUtil.isArgumentOfLoadView(expression, 0)) {
-            // TODO Reference check enough?
-            if (!MyPsiReference.referencesElement(expression)) {
-              problemsHolder.registerProblem(expression, "View does not exist");
+          long start = CiMetrics.start(project);
+          try {
+            if (argument instanceof StringLiteralExpression) {
+              checkLiteral((StringLiteralExpression) argument);
+            } else {
+              checkExpression(argument);
             }
+          } finally {
+            CiMetrics.stop(project, CiMetric.VIEW_DOES_NOT_EXIST_INSPECTION, start);
+          }
+        }
+      }
+
+      private void checkLiteral(StringLiteralExpression expression) {
+        if (!CiViewUtil.viewExists(expression)) {
+          String relativePath = StringUtil.unquoteString(expression.getText());
+          if (canCreate(relativePath)) {
+            problemsHolder.registerProblem(expression, "View does not exist",
+                new CreateViewQuickFix(PhpExtensionUtil.addIfMissing(relativePath)));
+          } else {
+            problemsHolder.registerProblem(expression, "View does not exist");
           }
         }
       }
+
+      /**
+       * Checks concatenations and constants. Nothing is reported unless at least part of the
+       * view name is known.
+       */
+      private void checkExpression(PsiElement expression) {
+        EvaluatedString viewName = MyStringEvaluator.evaluate(expression);
+        if (!viewName.isUnknown() && CiViewUtil.getMatchingViewFiles(expression).isEmpty()) {
+          problemsHolder.registerProblem(expression, viewName.isExact()
+              ? "View does not exist"
+              : String.format("No view matches '%s'", viewName));
+        }
+      }
     };
   }
 
+  /**
+   * @param relativePath relative path to a view file
+   * @return {@code true} if a view file can be created at the supplied path
+   */
+  private static boolean canCreate(@NotNull String relativePath) {
+    return !relativePath.isEmpty()
+        && !relativePath.startsWith("/")
+        && !relativePath.endsWith("/")
+        && !StringUtil.split(relativePath, "/").contains("..");
+  }
+
+  private static class CreateViewQuickFix implements LocalQuickFix {
+
+    private final String relativePath;
+
+    CreateViewQuickFix(String relativePath) {
+      this.relativePath = relativePath;
+    }
+
+    @Nls(capitalization = Capitalization.Sentence)
+    @NotNull
+    @Override
+    public String getName() {
+      return String.format("Create view '%s'", relativePath);
+    }
+
+    @Nls(capitalization = Capitalization.Sentence)
+    @NotNull
+    @Override
+    public String getFamilyName() {
+      return "Create view";
+    }
+
+    @Override
+    public boolean startInWriteAction() {
+      return false;
+    }
+
+    @Override
+    public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor problemDescriptor) {
+      PsiFile file = problemDescriptor.getPsiElement().getContainingFile();
+      VirtualFile viewDirectory = CiViewUtil.findViewDirectoryFor(file);
+      if (viewDirectory == null) {
+        Messages.showErrorDialog(project, "No view directory found", getFamilyName());
+        return;
+      }
+      try {
+        VirtualFile viewFile = WriteCommandAction.writeCommandAction(project)
+            .withName(getName())
+            .compute(() -> {
+              String parentPath = PathUtil.getParentPath(relativePath);
+              VirtualFile parent = parentPath.isEmpty() ? viewDirectory
+                  : VfsUtil.createDirectoryIfMissing(viewDirectory, parentPath);
+              return parent.createChildData(this, PathUtil.getFileName(relativePath));
+            });
+        new OpenFileDescriptor(project, viewFile).navigate(true);
+      } catch (IOException e) {
+        Messages.showErrorDialog(project, e.getMessage(), getFamilyName());
+      }
+    }
+
+  }
+
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lt.martynassateika.idea.codeigniter.view;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex.InputFilter;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetrics;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Index of CI view files, keyed by view name (e.g. 'admin/users/list').
+ *
+ * A view file placed in nested 'views' directories is indexed under its name relative to each of
+ * them, as CI would find it from any of those directories.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class ViewFileIndex extends ScalarIndexExtension<String> {
+
+  @NonNls
+  static final ID<String, Void> KEY = ID.create("codeigniter.view.file.index");
+
+  private final MyDataIndexer myDataIndexer = new MyDataIndexer();
+
+  @NotNull
+  @Override
+  public ID<String, Void> getName() {
+    return KEY;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, Void, FileContent> getIndexer() {
+    return myDataIndexer;
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  @NotNull
+  @Override
+  public InputFilter getInputFilter() {
+    return file -> !file.isDirectory() && CiViewUtil.getClosestViewDirectory(file) != null;
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return false;
+  }
+
+  private static class MyDataIndexer implements DataIndexer<String, Void, FileContent> {
+
+    @NotNull
+    @Override
+    public Map<String, Void> map(@NotNull FileContent fileContent) {
+      Project project = fileContent.getProject();
+      long start = CiMetrics.start(project);
+      try {
+        return mapFile(fileContent);
+      } finally {
+        CiMetrics.stop(project, CiMetric.VIEW_INDEX, start);
+      }
+    }
+
+    @NotNull
+    private Map<String, Void> mapFile(@NotNull FileContent fileContent) {
+      VirtualFile file = fileContent.getFile();
+      VirtualFile viewDirectory = CiViewUtil.getClosestViewDirectory(file);
+      if (viewDirectory == null) {
+        return Collections.emptyMap();
+      }
+      Map<String, Void> map = new HashMap<>();
+      while (viewDirectory != null) {
+        String relativePath = VfsUtilCore.getRelativePath(file, viewDirectory, '/');
+        if (relativePath != null) {
+          map.put(CiViewUtil.getViewName(relativePath), null);
+        }
+        viewDirectory = CiViewUtil.getClosestViewDirectory(viewDirectory);
+      }
+      return map;
+    }
+  }
+
+}
@@ -17,17 +17,19 @@
 package lt.martynassateika.idea.codeigniter.view;
 
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.text.StringUtil;
-import com.intellij.patterns.PlatformPatterns;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceContributor;
 import com.intellij.psi.PsiReferenceProvider;
 import com.intellij.psi.PsiReferenceRegistrar;
 import com.intellij.util.ProcessingContext;
+import com.jetbrains.php.lang.psi.elements.BinaryExpression;
 import com.jetbrains.php.lang.psi.elements.StringLiteralExpression;
 import lt.martynassateika.idea.codeigniter.CodeIgniterProjectSettings;
-import lt.martynassateika.idea.codeigniter.psi.MyPsiReference;
+import lt.martynassateika.idea.codeigniter.diagnostics.CiMetric;
+import lt.martynassateika.idea.codeigniter.psi.MyPolyVariantReference;
+import lt.martynassateika.idea.codeigniter.psi.MyPsiPatterns;
+import lt.martynassateika.idea.codeigniter.psi.MyStringEvaluator;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -40,7 +42,7 @@ public class ViewReferenceContributor extends PsiReferenceContributor {
 
   @Override
   public void registerReferenceProviders(@NotNull PsiReferenceRegistrar registrar) {
-    registrar.registerReferenceProvider(PlatformPatterns.psiElement(),
+    registrar.registerReferenceProvider(MyPsiPatterns.stringArgumentOf("view"),
         new PsiReferenceProvider() {
           @NotNull
           @Override
@@ -51,17 +53,38 @@ public class ViewReferenceContributor extends PsiReferenceContributor {
               if (psiElement instanceof StringLiteralExpression) {
                 if (CiViewUtil.isArgumentOfLoadView(psiElement, 0)) {
                   StringLiteralExpression stringLiteralExpression = (StringLiteralExpression) psiElement;
-                  String relativePath = StringUtil.unquoteString(stringLiteralExpression.getText());
-                  return CiViewUtil.findViewFiles(relativePath, project)
-                      .stream()
-                      .map(file -> new MyPsiReference(file, stringLiteralExpression))
-                      .toArray(PsiReference[]::new);
+                  return new PsiReference[]{
+                      new MyPolyVariantReference(stringLiteralExpression, CiMetric.VIEW_RESOLVE,
+                          CiViewUtil::findViewFiles)
+                  };
                 }
               }
             }
             return PsiReference.EMPTY_ARRAY;
           }
         });
+    registrar.registerReferenceProvider(MyPsiPatterns.stringInConcatenation(),
+        new PsiReferenceProvider() {
+          @NotNull
+          @Override
+          public PsiReference[] getReferencesByElement(@NotNull PsiElement psiElement,
+              @NotNull ProcessingContext processingContext) {
+            // $this->load->view('admin/' . $section . '/list');
+            Project project = psiElement.getProject();
+            if (CodeIgniterProjectSettings.getInstance(project).isEnabled()) {
+              StringLiteralExpression literalExpression = (StringLiteralExpression) psiElement;
+              BinaryExpression concatenation = MyStringEvaluator
+                  .getConcatenation(literalExpression);
+              if (concatenation != null && CiViewUtil.isArgumentOfLoadView(concatenation, 0)) {
+                return new PsiReference[]{
+                    new MyPolyVariantReference(literalExpression, CiMetric.VIEW_RESOLVE,
+                        CiViewUtil::findMatchingViewFiles)
+                };
+              }
+            }
+            return PsiReference.EMPTY_ARRAY;
+          }
+        });
   }
 
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter;
+
+import com.intellij.codeInsight.lookup.LookupManager;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.impl.PsiModificationTrackerImpl;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.intellij.util.ThrowableRunnable;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Base class for performance tests running against a generated CodeIgniter application.
+ *
+ * Timings are asserted with {@link PlatformTestUtil#startPerformanceTest}, which scales the
+ * expected time by the speed of the machine running the tests.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public abstract class CiPerformanceTestCase extends BasePlatformTestCase {
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    CodeIgniterProjectSettings.getInstance(getProject()).setEnabled(true);
+    createGenerator().generate(myFixture);
+  }
+
+  /**
+   * @return generator describing the application the tests run against
+   */
+  @NotNull
+  protected abstract CiProjectGenerator createGenerator();
+
+  /**
+   * Measures {@code test} after dropping all cached values, resolve results and the active
+   * lookup, so that every attempt does the full amount of work.
+   *
+   * @param what name of the measured operation
+   * @param expectedMs expected time in milliseconds
+   * @param test the measured operation
+   */
+  protected void assertTiming(@NotNull String what, int expectedMs,
+      @NotNull ThrowableRunnable<?> test) {
+    PlatformTestUtil.startPerformanceTest(what, expectedMs, test)
+        .setup(this::reset)
+        .assertTiming();
+  }
+
+  private void reset() {
+    LookupManager.hideActiveLookup(getProject());
+    PsiManager psiManager = getPsiManager();
+    ((PsiModificationTrackerImpl) psiManager.getModificationTracker()).incCounter();
+    psiManager.dropPsiCaches();
+  }
+
+  /**
+   * @param name one of the {@link CodeIgniterProjectService} directory names
+   * @return all files in directories with the supplied name
+   */
+  @NotNull
+  protected List<VirtualFile> getFilesIn(@NotNull String name) {
+    List<VirtualFile> files = new ArrayList<>();
+    for (VirtualFile directory : CodeIgniterProjectService.getInstance(getProject())
+        .getDirectories(name)) {
+      VfsUtil.collectChildrenRecursively(directory).stream()
+          .filter(file -> !file.isDirectory())
+          .forEach(files::add);
+    }
+    return files;
+  }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter;
+
+import com.intellij.testFramework.fixtures.CodeInsightTestFixture;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generates a synthetic CodeIgniter 3 application of configurable size in a test fixture.
+ *
+ * All names are derived from indices, so tests can refer to generated items without keeping
+ * track of them, e.g. view {@code section3/view3} or language key {@code file2_key7}.
+ *
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class CiProjectGenerator {
+
+  private static final String APPLICATION = "application/";
+
+  private static final int VIEW_SECTIONS = 20;
+
+  private int views;
+
+  private int models;
+
+  private int helpers;
+
+  private final List<String> idioms = new ArrayList<>();
+
+  private int languageFiles;
+
+  private int languageKeysPerFile;
+
+  private int configFiles;
+
+  private int configItemsPerFile;
+
+  public CiProjectGenerator withViews(int views) {
+    this.views = views;
+    return this;
+  }
+
+  public CiProjectGenerator withModels(int models) {
+    this.models = models;
+    return this;
+  }
+
+  public CiProjectGenerator withHelpers(int helpers) {
+    this.helpers = helpers;
+    return this;
+  }
+
+  /**
+   * @param idioms language directories to create, e.g. 'english'
+   * @param files number of language files in each idiom
+   * @param keysPerFile number of language keys in each file
+   */
+  public CiProjectGenerator withLanguageFiles(List<String> idioms, int files, int keysPerFile) {
+    this.idioms.addAll(idioms);
+    this.languageFiles = files;
+    this.languageKeysPerFile = keysPerFile;
+    return this;
+  }
+
+  public CiProjectGenerator withConfigFiles(int files, int itemsPerFile) {
+    this.configFiles = files;
+    this.configItemsPerFile = itemsPerFile;
+    return this;
+  }
+
+  /**
+   * Writes the application to the fixture's temporary directory.
+   *
+   * @param fixture a test fixture
+   */
+  public void generate(@NotNull CodeInsightTestFixture fixture) {
+    for (int i = 0; i < views; i++) {
+      fixture.addFileToProject(APPLICATION + "views/" + getViewName(i) + ".php",
+          "<h1><?= $title ?></h1>\n<p>View " + i + "</p>\n");
+    }
+    for (int i = 0; i < models; i++) {
+      fixture.addFileToProject(APPLICATION + "models/" + getModelName(i) + ".php",
+          createModel(i));
+    }
+    for (int i = 0; i < helpers; i++) {
+      fixture.addFileToProject(APPLICATION + "helpers/" + getHelperName(i) + "_helper.php",
+          createHelper(i));
+    }
+    for (String idiom : idioms) {
+      for (int i = 0; i < languageFiles; i++) {
+        fixture.addFileToProject(APPLICATION + "language/" + idiom + "/file" + i + "_lang.php",
+            createLanguageFile(idiom, i));
+      }
+    }
+    for (int i = 0; i < configFiles; i++) {
+      fixture.addFileToProject(APPLICATION + "config/config" + i + ".php", createConfigFile(i));
+    }
+  }
+
+  /**
+   * @return view name relative to the 'views' directory, without the extension
+   */
+  @NotNull
+  public static String getViewName(int index) {
+    return "section" + (index % VIEW_SECTIONS) + "/view" + index;
+  }
+
+  @NotNull
+  public static String getModelName(int index) {
+    return "Model" + index + "_model";
+  }
+
+  @NotNull
+  public static String getHelperName(int index) {
+    return "generated" + index;
+  }
+
+  @NotNull
+  public static String getLanguageKey(int file, int key) {
+    return "file" + file + "_key" + key;
+  }
+
+  @NotNull
+  public static String getConfigItemName(int file, int item) {
+    return "config" + file + "_item" + item;
+  }
+
+  private static String createModel(int index) {
+    StringBuilder builder = new StringBuilder("<?php\n\nclass ")
+        .append(getModelName(index))
+        .append(" extends CI_Model {\n");
+    for (int i = 0; i < 10; i++) {
+      builder.append("\n  public function get").append(i).append("() {\n")
+          .append("    return $this->db->get('table").append(i).append("')->result();\n")
+          .append("  }\n");
+    }
+    return builder.append("\n}\n").toString();
+  }
+
+  private static String createHelper(int index) {
+    StringBuilder builder = new StringBuilder("<?php\n");
+    for (int i = 0; i < 10; i++) {
+      String name = getHelperName(index) + "_function" + i;
+      builder.append("\nif (!function_exists('").append(name).append("')) {\n")
+          .append("  function ").append(name).append("($value) {\n")
+          .append("    return $value;\n")
+          .append("  }\n")
+          .append("}\n");
+    }
+    return builder.toString();
+  }
+
+  private String createLanguageFile(String idiom, int file) {
+    StringBuilder builder = new StringBuilder("<?php\n\n");
+    for (int i = 0; i < languageKeysPerFile; i++) {
+      builder.append("$lang['").append(getLanguageKey(file, i)).append("'] = '")
+          .append(idiom).append(" text for key ").append(i).append("';\n");
+    }
+    return builder.toString();
+  }
+
+  private String createConfigFile(int file) {
+    StringBuilder builder = new StringBuilder("<?php\n\n");
+    for (int i = 0; i < configItemsPerFile; i++) {
+      builder.append("$config['").append(getConfigItemName(file, i)).append("'] = ")
+          .append(i).append(";\n");
+    }
+    return builder.toString();
+  }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.config;
+
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiPolyVariantReference;
+import com.intellij.psi.PsiReference;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.FileContentImpl;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lt.martynassateika.idea.codeigniter.CiPerformanceTestCase;
+import lt.martynassateika.idea.codeigniter.CiProjectGenerator;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectService;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class ConfigPerformanceTest extends CiPerformanceTestCase {
+
+  private static final int FILES = 100;
+
+  private static final int ITEMS_PER_FILE = 100;
+
+  @NotNull
+  @Override
+  protected CiProjectGenerator createGenerator() {
+    return new CiProjectGenerator().withConfigFiles(FILES, ITEMS_PER_FILE);
+  }
+
+  public void testIndexing() {
+    List<VirtualFile> files = getFilesIn(CodeIgniterProjectService.CONFIG);
+    assertEquals(FILES, files.size());
+    ConfigFileIndex index = new ConfigFileIndex();
+    List<FileContent> contents = new ArrayList<>();
+    PlatformTestUtil.startPerformanceTest("Config file indexing", 1500, () -> {
+      for (FileContent content : contents) {
+        assertEquals(ITEMS_PER_FILE, index.getIndexer().map(content).size());
+      }
+    }).setup(() -> {
+      contents.clear();
+      for (VirtualFile file : files) {
+        contents.add(FileContentImpl.createByFile(file, getProject()));
+      }
+    }).assertTiming();
+  }
+
+  public void testCompletion() {
+    myFixture.configureByText("Welcome.php", "<?php\n$this->config->item('<caret>');\n");
+    assertTiming("Config item completion", 1500, () -> {
+      LookupElement[] elements = myFixture.completeBasic();
+      assertNotNull(elements);
+      assertNotEmpty(Arrays.asList(elements));
+    });
+  }
+
+  public void testResolve() {
+    String item = CiProjectGenerator.getConfigItemName(FILES / 2, ITEMS_PER_FILE / 2);
+    myFixture.configureByText("Welcome.php", "<?php\nconfig_item('" + item + "<caret>');\n");
+    PsiReference reference = myFixture.getFile().findReferenceAt(myFixture.getCaretOffset());
+    assertInstanceOf(reference, PsiPolyVariantReference.class);
+    assertTiming("Config item resolve", 100, () -> {
+      assertEquals(1, ((PsiPolyVariantReference) reference).multiResolve(false).length);
+    });
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.language;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.lang.folding.FoldingDescriptor;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiPolyVariantReference;
+import com.intellij.psi.PsiReference;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.FileContentImpl;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lt.martynassateika.idea.codeigniter.CiPerformanceTestCase;
+import lt.martynassateika.idea.codeigniter.CiProjectGenerator;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectService;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class LanguagePerformanceTest extends CiPerformanceTestCase {
+
+  private static final List<String> IDIOMS = Arrays.asList("english", "german", "lithuanian");
+
+  private static final int FILES = 50;
+
+  private static final int KEYS_PER_FILE = 200;
+
+  private static final int CALLS = 200;
+
+  @NotNull
+  @Override
+  protected CiProjectGenerator createGenerator() {
+    return new CiProjectGenerator().withLanguageFiles(IDIOMS, FILES, KEYS_PER_FILE);
+  }
+
+  public void testIndexing() {
+    List<VirtualFile> files = getFilesIn(CodeIgniterProjectService.LANGUAGE);
+    assertEquals(IDIOMS.size() * FILES, files.size());
+    LanguageFileIndex index = new LanguageFileIndex();
+    List<FileContent> contents = new ArrayList<>();
+    PlatformTestUtil.startPerformanceTest("Language file indexing", 3000, () -> {
+      for (FileContent content : contents) {
+        assertEquals(KEYS_PER_FILE, index.getIndexer().map(content).size());
+      }
+    }).setup(() -> {
+      contents.clear();
+      for (VirtualFile file : files) {
+        contents.add(FileContentImpl.createByFile(file, getProject()));
+      }
+    }).assertTiming();
+  }
+
+  public void testCompletion() {
+    myFixture.configureByText("Welcome.php", "<?php\nlang('<caret>');\n");
+    assertTiming("Language key completion", 1500, () -> {
+      LookupElement[] elements = myFixture.completeBasic();
+      assertNotNull(elements);
+      assertNotEmpty(Arrays.asList(elements));
+    });
+  }
+
+  public void testResolve() {
+    String key = CiProjectGenerator.getLanguageKey(FILES / 2, KEYS_PER_FILE / 2);
+    myFixture.configureByText("Welcome.php", "<?php\nlang('" + key + "<caret>');\n");
+    PsiPolyVariantReference reference = getReferenceAtCaret();
+    assertTiming("Language key resolve", 100, () -> {
+      assertEquals(IDIOMS.size(), reference.multiResolve(false).length);
+    });
+  }
+
+  public void testResolveConcatenation() {
+    myFixture.configureByText("Welcome.php", "<?php\nlang('file1<caret>_' . $key);\n");
+    PsiPolyVariantReference reference = getReferenceAtCaret();
+    assertTiming("Concatenated language key resolve", 1000, () -> {
+      // The number of matching keys is capped at 100
+      assertEquals(IDIOMS.size() * 100, reference.multiResolve(false).length);
+    });
+  }
+
+  public void testFolding() {
+    myFixture.configureByText("Welcome.php", createLangCalls(0));
+    Document document = myFixture.getEditor().getDocument();
+    LanguageFoldingBuilder builder = new LanguageFoldingBuilder();
+    assertTiming("Language key folding", 500, () -> {
+      FoldingDescriptor[] descriptors = builder
+          .buildFoldRegions(myFixture.getFile(), document, false);
+      assertEquals(CALLS, descriptors.length);
+    });
+  }
+
+  public void testInspection() {
+    myFixture.enableInspections(new CodeIgniterTranslationDoesNotExistInspection());
+    myFixture.configureByText("Welcome.php", createLangCalls(KEYS_PER_FILE - CALLS / 2));
+    assertTiming("'Translation does not exist' inspection", 2000, () -> {
+      long problems = myFixture.doHighlighting().stream()
+          .map(HighlightInfo::getDescription)
+          .filter(description -> description != null && description.endsWith("does not exist"))
+          .count();
+      assertEquals(CALLS / 2, problems);
+    });
+  }
+
+  /**
+   * @param firstKey index of the first key to use; keys past the end of a file do not exist
+   * @return a PHP file calling {@code lang} {@link #CALLS} times
+   */
+  private static String createLangCalls(int firstKey) {
+    StringBuilder builder = new StringBuilder("<?php\n\n");
+    for (int i = 0; i < CALLS; i++) {
+      String key = CiProjectGenerator.getLanguageKey(i % FILES, firstKey + i);
+      builder.append("echo lang('").append(key).append("');\n");
+    }
+    return builder.toString();
+  }
+
+  private PsiPolyVariantReference getReferenceAtCaret() {
+    PsiReference reference = myFixture.getFile().findReferenceAt(myFixture.getCaretOffset());
+    assertInstanceOf(reference, PsiPolyVariantReference.class);
+    return (PsiPolyVariantReference) reference;
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.route;
+
+import java.util.ArrayList;
+import java.util.List;
+import junit.framework.TestCase;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class RouteMatcherTest extends TestCase {
+
+  public void testWildcardRoutesAreSplitIntoSegments() {
+    RouteMatcher matcher = compile("foo/(:any)", "foo/show/$1", "bar/(:num)", "bar/view/$1");
+    assertEquals(0, matcher.getWholeRouteCount());
+    assertTarget(matcher, "foo/abc", "foo/show/abc");
+    assertTarget(matcher, "bar/12", "bar/view/12");
+    assertNull(matcher.match("bar/abc"));
+    assertNull(matcher.match("foo/abc/def"));
+  }
+
+  public void testRoutesSpanningSegmentsAreMatchedAsAWhole() {
+    RouteMatcher matcher = compile("files/(.+)", "files/get/$1");
+    assertEquals(1, matcher.getWholeRouteCount());
+    assertTarget(matcher, "files/a/b", "files/get/a/b");
+  }
+
+  public void testFirstMatchingRouteWins() {
+    RouteMatcher matcher = compile(
+        "product/(:num)", "catalog/by_id/$1",
+        "product/(:any)", "catalog/by_name/$1",
+        "product/12", "catalog/never",
+        "([a-z]+)/edit/(\\d+)", "$1/edit/$2");
+    assertTarget(matcher, "product/12", "catalog/by_id/12");
+    assertTarget(matcher, "product/abc", "catalog/by_name/abc");
+    assertTarget(matcher, "user/edit/1", "user/edit/1");
+  }
+
+  public void testIsLiteral() {
+    assertTrue(RouteMatcher.isLiteral("user/edit/1"));
+    assertFalse(RouteMatcher.isLiteral("product/(:num)"));
+  }
+
+  /**
+   * @param patternsAndTargets route patterns, each followed by its target
+   */
+  @NotNull
+  private static RouteMatcher compile(@NotNull String... patternsAndTargets) {
+    List<RouteMatcher.RouteDefinition> definitions = new ArrayList<>();
+    for (int i = 0; i < patternsAndTargets.length; i += 2) {
+      definitions.add(new RouteMatcher.RouteDefinition(patternsAndTargets[i],
+          new Route(i, patternsAndTargets[i + 1])));
+    }
+    return RouteMatcher.compile(definitions);
+  }
+
+  private static void assertTarget(@NotNull RouteMatcher matcher, @NotNull String uriPath,
+      @NotNull String expectedTarget) {
+    RouteMatcher.Match match = matcher.match(uriPath);
+    assertNotNull(uriPath, match);
+    assertEquals(expectedTarget, match.getTarget());
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Martynas Sateika
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package lt.martynassateika.idea.codeigniter.view;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiPolyVariantReference;
+import com.intellij.psi.PsiReference;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.FileContentImpl;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lt.martynassateika.idea.codeigniter.CiPerformanceTestCase;
+import lt.martynassateika.idea.codeigniter.CiProjectGenerator;
+import lt.martynassateika.idea.codeigniter.CodeIgniterProjectService;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author martynas.sateika
+ * @since 0.7.0
+ */
+public class ViewPerformanceTest extends CiPerformanceTestCase {
+
+  private static final int VIEWS = 2000;
+
+  private static final int CALLS = 200;
+
+  @NotNull
+  @Override
+  protected CiProjectGenerator createGenerator() {
+    return new CiProjectGenerator().withViews(VIEWS).withModels(200).withHelpers(100);
+  }
+
+  public void testIndexing() {
+    List<VirtualFile> files = getFilesIn(CodeIgniterProjectService.VIEWS);
+    assertEquals(VIEWS, files.size());
+    ViewFileIndex index = new ViewFileIndex();
+    List<FileContent> contents = new ArrayList<>();
+    PlatformTestUtil.startPerformanceTest("View file indexing", 500, () -> {
+      for (FileContent content : contents) {
+        assertNotEmpty(index.getIndexer().map(content).keySet());
+      }
+    }).setup(() -> {
+      contents.clear();
+      for (VirtualFile file : files) {
+        contents.add(FileContentImpl.createByFile(file, getProject()));
+      }
+    }).assertTiming();
+  }
+
+  public void testCompletion() {
+    myFixture.configureByText("Welcome.php", "<?php\n$this->load->view('section1/<caret>');\n");
+    assertTiming("View name completion", 1500, () -> {
+      LookupElement[] elements = myFixture.completeBasic();
+      assertNotNull(elements);
+      assertNotEmpty(Arrays.asList(elements));
+    });
+  }
+
+  public void testResolve() {
+    String view = CiProjectGenerator.getViewName(VIEWS / 2);
+    myFixture.configureByText("Welcome.php",
+        "<?php\n$this->load->view('" + view + "<caret>');\n");
+    PsiPolyVariantReference reference = getReferenceAtCaret();
+    assertTiming("View name resolve", 100, () -> {
+      assertEquals(1, reference.multiResolve(false).length);
+    });
+  }
+
+  public void testResolveConcatenation() {
+    myFixture.configureByText("Welcome.php",
+        "<?php\n$this->load->view('section1<caret>/' . $name);\n");
+    PsiPolyVariantReference reference = getReferenceAtCaret();
+    assertTiming("Concatenated view name resolve", 1000, () -> {
+      assertEquals(VIEWS / 20, reference.multiResolve(false).length);
+    });
+  }
+
+  public void testInspection() {
+    myFixture.enableInspections(new CodeIgniterViewDoesNotExistInspection());
+    StringBuilder builder = new StringBuilder("<?php\n\n");
+    for (int i = 0; i < CALLS; i++) {
+      // Every other view does not exist
+      String view = CiProjectGenerator.getViewName(i % 2 == 0 ? i : VIEWS + i);
+      builder.append("$this->load->view('").append(view).append("');\n");
+    }
+    myFixture.configureByText("Welcome.php", builder.toString());
+    assertTiming("'View does not exist' inspection", 2000, () -> {
+      long problems = myFixture.doHighlighting().stream()
+          .map(HighlightInfo::getDescription)
+          .filter("View does not exist"::equals)
+          .count();
+      assertEquals(CALLS / 2, problems);
+    });
+  }
+
+  private PsiPolyVariantReference getReferenceAtCaret() {
+    PsiReference reference = myFixture.getFile().findReferenceAt(myFixture.getCaretOffset());
+    assertInstanceOf(reference, PsiPolyVariantReference.class);
+    return (PsiPolyVariantReference) reference;
+  }
+
+}